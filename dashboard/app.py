@@ -68,7 +68,8 @@ def health():
             },
             "intake": {
                 "current_amps": get_nt_value("Intake Current (A)", 0.0),
-                "jammed": get_nt_value("Intake Jammed", False)
+                # AlertBus publishes the alert text while raised and "" otherwise
+                "jammed": bool(get_nt_value("Alerts/Intake Jammed", ""))
             },
             "turret": {
                 "position_rotations": get_nt_value("TurretPositionRotations", 0.0),
@@ -0,0 +1,195 @@
+package frc.robot;
+
+import edu.wpi.first.math.filter.Debouncer;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.constants.Constants;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Central place for robot alerts. Each alert is a named, severity-tagged condition that code sets
+ * every loop; the bus debounces it, publishes it to "Alerts/&lt;name&gt;" through {@link
+ * RobotTelemetry} and logs the active alerts per severity under "Alerts/Active/".
+ *
+ * <p>Console output is rate-limited per alert and written by a background thread, so a condition
+ * that stays true (a sagging battery, say) never puts blocking console I/O on the main loop. When
+ * the print queue is full, messages are dropped and counted rather than waited on.
+ *
+ * <p>Alerts and events are raised from the main thread only.
+ */
+public final class AlertBus {
+  /** How serious an alert is. */
+  public enum Severity {
+    INFO,
+    WARNING,
+    ERROR
+  }
+
+  private static final Map<String, Alert> alerts = new LinkedHashMap<>();
+  private static final BlockingQueue<String> printQueue =
+      new ArrayBlockingQueue<>(Constants.ALERT_PRINT_QUEUE_CAPACITY);
+  private static Thread printerThread;
+  private static boolean activeChanged = false;
+  private static long droppedPrints = 0;
+  private static RobotTelemetry.NumberHandle droppedTelemetry;
+
+  private AlertBus() {}
+
+  /** A named condition with a severity. Main thread only. */
+  public static final class Alert {
+    private final String m_name;
+    private final Severity m_severity;
+    private final RobotTelemetry.StringHandle m_telemetry;
+    private String m_text;
+    private Debouncer m_debouncer;
+    private boolean m_active = false;
+    private double m_lastPrintTime = Double.NEGATIVE_INFINITY;
+
+    private Alert(String name, Severity severity, String text) {
+      m_name = name;
+      m_severity = severity;
+      m_text = text;
+      m_telemetry = RobotTelemetry.stringHandle("Alerts/" + name);
+    }
+
+    /**
+     * Requires the condition to hold for a while before the alert is raised.
+     *
+     * @param seconds How long the condition must be true
+     * @return This alert, for chaining at construction
+     */
+    public Alert withDebounce(double seconds) {
+      m_debouncer = new Debouncer(seconds, Debouncer.DebounceType.kRising);
+      return this;
+    }
+
+    /**
+     * Updates the alert's condition. Call every loop, or once for a one-off alert.
+     *
+     * @param condition Whether the alerted condition currently holds
+     */
+    public void set(boolean condition) {
+      boolean active = m_debouncer == null ? condition : m_debouncer.calculate(condition);
+      if (active == m_active) {
+        return;
+      }
+      m_active = active;
+      activeChanged = true;
+      publish();
+      if (active) {
+        double now = Timer.getFPGATimestamp();
+        if (now - m_lastPrintTime >= Constants.ALERT_PRINT_PERIOD) {
+          m_lastPrintTime = now;
+          print(m_severity, m_name + ": " + m_text);
+        }
+      }
+    }
+
+    /**
+     * Changes the alert's message. A raised alert republishes immediately but is not printed again.
+     *
+     * @param text New message
+     */
+    public void setText(String text) {
+      if (text.equals(m_text)) {
+        return;
+      }
+      m_text = text;
+      if (m_active) {
+        activeChanged = true;
+        publish();
+      }
+    }
+
+    /** Returns whether the alert is currently raised. */
+    public boolean isActive() {
+      return m_active;
+    }
+
+    private void publish() {
+      m_telemetry.set(m_active ? "[" + m_severity + "] " + m_text : "");
+    }
+  }
+
+  /**
+   * Returns the alert with the given name, creating it on first use.
+   *
+   * @param name Published under "Alerts/&lt;name&gt;"
+   * @param severity How serious the alert is
+   * @param text Message shown while the alert is raised
+   */
+  public static Alert alert(String name, Severity severity, String text) {
+    Alert alert = alerts.get(name);
+    if (alert == null) {
+      alert = new Alert(name, severity, text);
+      alerts.put(name, alert);
+    } else {
+      alert.setText(text);
+    }
+    return alert;
+  }
+
+  /**
+   * Logs and prints a one-off message, such as a startup notice. Prints go through the same
+   * background queue as alerts.
+   *
+   * @param severity How serious the event is
+   * @param text Message
+   */
+  public static void event(Severity severity, String text) {
+    Logger.recordOutput("Alerts/LastEvent", "[" + severity + "] " + text);
+    print(severity, text);
+  }
+
+  private static void print(Severity severity, String text) {
+    if (printerThread == null) {
+      printerThread = new Thread(AlertBus::runPrinter, "AlertPrinter");
+      printerThread.setDaemon(true);
+      printerThread.start();
+    }
+    if (!printQueue.offer("[" + severity + "] " + text)) {
+      droppedPrints++;
+      if (droppedTelemetry == null) {
+        droppedTelemetry = RobotTelemetry.numberHandle("Alerts/DroppedPrints");
+      }
+      droppedTelemetry.set(droppedPrints);
+    }
+  }
+
+  private static void runPrinter() {
+    try {
+      while (true) {
+        String line = printQueue.take();
+        if (line.startsWith("[INFO]")) {
+          System.out.println(line);
+        } else {
+          System.err.println(line);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Logs the active alerts per severity when they change. Called once per loop. */
+  public static void periodic() {
+    if (!activeChanged) {
+      return;
+    }
+    activeChanged = false;
+    for (Severity severity : Severity.values()) {
+      List<String> active = new ArrayList<>();
+      for (Alert alert : alerts.values()) {
+        if (alert.m_active && alert.m_severity == severity) {
+          active.add(alert.m_name + ": " + alert.m_text);
+        }
+      }
+      Logger.recordOutput("Alerts/Active/" + severity, active.toArray(new String[0]));
+    }
+  }
+}
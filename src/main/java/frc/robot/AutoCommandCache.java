@@ -0,0 +1,113 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj2.command.Command;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds autonomous commands ahead of time, keyed by chooser selection, so autonomousInit only has
+ * to look one up and schedule it. Published under "Auto/".
+ *
+ * <p>Building parses the deploy files and composes commands, which registers them with the command
+ * scheduler, so it happens on the main thread: every auto at boot, and again for a selection that
+ * failed to build when the driver picks it while disabled. A failed build is remembered and not
+ * retried until the selection changes, so a broken auto costs one attempt rather than one per loop.
+ */
+public final class AutoCommandCache {
+  private final Function<String, Command> m_builder;
+  private final Map<String, Command> m_commands = new HashMap<>();
+  private final Map<String, Double> m_buildMillis = new HashMap<>();
+  private String m_lastSelection;
+
+  // Telemetry
+  private final RobotTelemetry.StringHandle m_selectedTelemetry =
+      RobotTelemetry.stringHandle("Auto/Selected");
+  private final RobotTelemetry.BooleanHandle m_readyTelemetry =
+      RobotTelemetry.booleanHandle("Auto/Ready");
+  private final RobotTelemetry.NumberHandle m_buildMillisTelemetry =
+      RobotTelemetry.numberHandle("Auto/BuildMs");
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param builder Builds the command for a selection; may throw if the selection cannot be built
+   */
+  public AutoCommandCache(Function<String, Command> builder) {
+    m_builder = builder;
+  }
+
+  /**
+   * Builds every selection up front. Call once at boot, after named commands are registered.
+   *
+   * @param selections Every value the auto chooser can return
+   */
+  public void prebuild(Iterable<String> selections) {
+    for (String selection : selections) {
+      build(selection);
+    }
+  }
+
+  /**
+   * Resolves the current chooser selection, building it if it is not cached yet. Call every loop
+   * while disabled.
+   *
+   * @param selection Current chooser value, or null when nothing is selected
+   */
+  public void refresh(String selection) {
+    if (selection == null || selection.equals(m_lastSelection)) {
+      return;
+    }
+    m_lastSelection = selection;
+    if (m_commands.get(selection) == null) {
+      build(selection);
+    }
+    m_selectedTelemetry.set(selection);
+    m_readyTelemetry.set(m_commands.get(selection) != null);
+    m_buildMillisTelemetry.set(m_buildMillis.getOrDefault(selection, 0.0));
+  }
+
+  /**
+   * Returns the prebuilt command for a selection and reports how long it took to build. Falls back
+   * to building it now if it was never built.
+   *
+   * @param selection Chooser value, or null when nothing is selected
+   * @return The command, or null when nothing is selected or the build failed
+   */
+  public Command get(String selection) {
+    if (selection == null) {
+      return null;
+    }
+    boolean prebuilt = m_commands.containsKey(selection);
+    if (!prebuilt) {
+      build(selection);
+    }
+    Command command = m_commands.get(selection);
+    AlertBus.event(
+        AlertBus.Severity.INFO,
+        String.format(
+            "Auto \"%s\": %s, built in %.1f ms",
+            selection,
+            command == null ? "failed to build" : prebuilt ? "prebuilt" : "built at auto start",
+            m_buildMillis.getOrDefault(selection, 0.0)));
+    return command;
+  }
+
+  /** Returns the build time of a selection in milliseconds, or 0 if it has not been built. */
+  double getBuildMillis(String selection) {
+    return m_buildMillis.getOrDefault(selection, 0.0);
+  }
+
+  private void build(String selection) {
+    long start = System.nanoTime();
+    Command command = null;
+    try {
+      command = m_builder.apply(selection);
+    } catch (RuntimeException e) {
+      DriverStation.reportWarning("Failed to build auto \"" + selection + "\": " + e, false);
+    }
+    m_commands.put(selection, command);
+    m_buildMillis.put(selection, (System.nanoTime() - start) / 1e6);
+  }
+}
@@ -0,0 +1,90 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Support for the AppCDS archive built by build.gradle.
+ *
+ * <p>{@link #startTrainingIfRequested()} drives the simulation training run that records which
+ * classes the robot loads: it steps the simulated driver station through disabled, autonomous and
+ * teleop so each mode's classes are loaded, then exits.
+ *
+ * <p>{@link #main} is the boot probe run on the roboRIO after deploy. It loads every class in the
+ * training list, without initializing them, and prints how long that took, so the build can report
+ * the time saved by the archive.
+ */
+public final class ClassDataSharing {
+  private static final String TRAINING_PROPERTY = "frc.cds.trainingSeconds";
+
+  private ClassDataSharing() {}
+
+  /** Starts the training run driver if the build asked for one. Simulation only. */
+  public static void startTrainingIfRequested() {
+    String seconds = System.getProperty(TRAINING_PROPERTY);
+    if (seconds == null || !RobotBase.isSimulation()) {
+      return;
+    }
+    long stageMillis = (long) (Double.parseDouble(seconds) * 1000 / 3);
+    Thread driver =
+        new Thread(
+            () -> {
+              try {
+                Thread.sleep(stageMillis);
+                enable(true);
+                Thread.sleep(stageMillis);
+                enable(false);
+                Thread.sleep(stageMillis);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              System.out.println("CDS training run complete");
+              System.exit(0);
+            },
+            "CdsTraining");
+    driver.setDaemon(true);
+    driver.start();
+  }
+
+  private static void enable(boolean autonomous) {
+    DriverStationSim.setAutonomous(autonomous);
+    DriverStationSim.setEnabled(true);
+    DriverStationSim.notifyNewData();
+  }
+
+  /**
+   * Boot probe: loads every class named in a -XX:DumpLoadedClassList file and prints the count and
+   * elapsed time. Classes that do not exist on this platform are skipped.
+   *
+   * @param args Path of the class list
+   */
+  public static void main(String... args) throws IOException {
+    List<String> lines = Files.readAllLines(Path.of(args[0]));
+    ClassLoader loader = ClassDataSharing.class.getClassLoader();
+    int loaded = 0;
+    long start = System.nanoTime();
+    for (String line : lines) {
+      // Entries look like "java/lang/Object id: 0"; '#' and '@' lines are comments and lambda forms
+      if (line.isEmpty() || line.startsWith("#") || line.startsWith("@")) {
+        continue;
+      }
+      String name = line.split(" ", 2)[0].replace('/', '.');
+      try {
+        Class.forName(name, false, loader);
+        loaded++;
+      } catch (ClassNotFoundException | LinkageError e) {
+        // Desktop-only class from the simulation training run
+      }
+    }
+    System.out.printf(
+        "loaded %d classes in %.1f ms (JVM up %d ms)%n",
+        loaded,
+        (System.nanoTime() - start) / 1e6,
+        ManagementFactory.getRuntimeMXBean().getUptime());
+  }
+}
@@ -37,6 +37,18 @@ public final class DriveConstants {
   public static final double ksDriveVolts = 0.015014;
   public static final double kvDriveVoltSecondsPerMeter = 2.4799;
   public static final double kaDriveVoltSecondsSquaredPerMeter = 0.48513;
+  // Closed-loop teleop limits, derived from the feedforward above. Volts budgeted for a sagging
+  // battery, so the velocity loop can still hold these limits late in a match.
+  public static final double kTeleopVoltageBudget = 10.0;
+  // Fastest wheel speed reachable on the budget (m/s)
+  public static final double kMaxTeleopSpeedMetersPerSecond =
+      (kTeleopVoltageBudget - ksDriveVolts) / kvDriveVoltSecondsPerMeter;
+  // Acceleration the budget still allows at half speed (m/s^2)
+  public static final double kMaxTeleopAccelerationMetersPerSecondSquared =
+      (kTeleopVoltageBudget
+              - ksDriveVolts
+              - kvDriveVoltSecondsPerMeter * kMaxTeleopSpeedMetersPerSecond / 2)
+          / kaDriveVoltSecondsSquaredPerMeter;
   // For SIM
   public static final double kvDriveVoltSecondsPerMeterAngular = 1.2;
   public static final double kaDriveVoltSecondsSquaredPerMeterAngular = 0.2;
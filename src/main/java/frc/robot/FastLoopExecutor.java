@@ -0,0 +1,88 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.Threads;
+import frc.robot.constants.Constants;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Runs registered control callbacks on a {@link Notifier} every {@link
+ * Constants#FAST_LOOP_PERIOD}, faster than the main robot loop.
+ *
+ * <p>Callbacks run on the notifier thread. They must not touch the command scheduler, the
+ * AdvantageKit Logger or {@link RobotTelemetry}; each subsystem exchanges setpoints and inputs with
+ * the main loop through its own synchronized handoff.
+ */
+public final class FastLoopExecutor {
+  private static final List<Runnable> callbacks = new CopyOnWriteArrayList<>();
+  private static Notifier notifier;
+  private static boolean priorityRaised = false;
+
+  // Written by the notifier thread, read and reset by the main thread
+  private static volatile long tickCount = 0;
+  private static volatile long maxTickNanos = 0;
+
+  private static long lastTickCount = 0;
+  private static long lastReportNanos = 0;
+  private static RobotTelemetry.NumberHandle rateTelemetry;
+  private static RobotTelemetry.NumberHandle maxTickTelemetry;
+
+  private FastLoopExecutor() {}
+
+  /**
+   * Adds a callback to run every fast loop tick. Register everything before {@link #start()}.
+   *
+   * @param callback Control step; runs on the notifier thread
+   */
+  public static void register(Runnable callback) {
+    callbacks.add(callback);
+  }
+
+  /** Starts the notifier if any callbacks are registered. */
+  public static void start() {
+    if (notifier != null || callbacks.isEmpty()) {
+      return;
+    }
+    rateTelemetry = RobotTelemetry.numberHandle("FastLoop/RateHz", 1.0);
+    maxTickTelemetry = RobotTelemetry.numberHandle("FastLoop/MaxTickMicros");
+    notifier = new Notifier(FastLoopExecutor::tick);
+    notifier.setName("FastControlLoop");
+    notifier.startPeriodic(Constants.FAST_LOOP_PERIOD);
+  }
+
+  private static void tick() {
+    if (!priorityRaised) {
+      Threads.setCurrentThreadPriority(true, Constants.FAST_LOOP_RT_PRIORITY);
+      priorityRaised = true;
+    }
+    long start = System.nanoTime();
+    for (Runnable callback : callbacks) {
+      callback.run();
+    }
+    long elapsed = System.nanoTime() - start;
+    if (elapsed > maxTickNanos) {
+      maxTickNanos = elapsed;
+    }
+    tickCount++;
+  }
+
+  /** Publishes the achieved tick rate and the slowest tick. Called once per main loop. */
+  public static void periodic() {
+    if (notifier == null) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (now - lastReportNanos < 1_000_000_000L) {
+      return;
+    }
+    long ticks = tickCount;
+    if (lastReportNanos != 0) {
+      rateTelemetry.set((ticks - lastTickCount) / ((now - lastReportNanos) / 1e9));
+    }
+    lastTickCount = ticks;
+    lastReportNanos = now;
+    maxTickTelemetry.set(maxTickNanos / 1e3);
+    maxTickNanos = 0;
+  }
+}
@@ -0,0 +1,261 @@
+package frc.robot;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Records every garbage collection pause and correlates pauses with robot loops, so loop overruns
+ * can be split into ones caused by GC and ones caused by our own code. Published under "GC/".
+ *
+ * <p>GC notifications arrive on a JMX thread and are queued; all logging and loop matching happens
+ * on the main thread in {@link #recordLoop}. Recent loops are kept in a small ring and each loop is
+ * classified when it leaves the ring, which gives late notifications time to arrive.
+ *
+ * <p>Every loop logs the pauses drained in it as parallel arrays under "GC/Pauses/", empty when
+ * there were none, so a burst of young collections keeps every pause. "GC/LastPause/" repeats the
+ * newest one for quick viewing.
+ *
+ * <p>Heap occupancy is sampled once a second. "GC/HeapAfterGCMB" is the live set after the last
+ * collection, which is what -Xmx should be sized against.
+ */
+public final class GcMonitor {
+  private static final int LOOP_HISTORY = 64;
+  private static final long HEAP_SAMPLE_PERIOD_NANOS = 1_000_000_000L;
+
+  /** One collection, as reported by the JVM. */
+  private static final class PauseEvent {
+    final String m_name;
+    final String m_cause;
+    final boolean m_stopsTheWorld;
+    final long m_startNanos;
+    final long m_endNanos;
+    final long m_durationMillis;
+    final long m_heapBeforeBytes;
+    final long m_heapAfterBytes;
+
+    PauseEvent(GarbageCollectionNotificationInfo info) {
+      GcInfo gc = info.getGcInfo();
+      m_name = info.getGcName();
+      m_cause = info.getGcCause();
+      // Concurrent cycles (e.g. "G1 Concurrent GC") run beside the application
+      m_stopsTheWorld = !m_name.contains("Concurrent");
+      m_startNanos = uptimeOffsetNanos + gc.getStartTime() * 1_000_000L;
+      m_endNanos = uptimeOffsetNanos + gc.getEndTime() * 1_000_000L;
+      m_durationMillis = gc.getDuration();
+      m_heapBeforeBytes = heapBytes(gc.getMemoryUsageBeforeGc());
+      m_heapAfterBytes = heapBytes(gc.getMemoryUsageAfterGc());
+    }
+  }
+
+  private static final Queue<PauseEvent> pendingPauses = new ConcurrentLinkedQueue<>();
+  // Pauses drained this loop; main thread only
+  private static final List<PauseEvent> loopPauses = new ArrayList<>();
+  private static final String[] NO_STRINGS = new String[0];
+  private static final double[] NO_DOUBLES = new double[0];
+  private static final Set<String> heapPoolNames = new HashSet<>();
+  private static MemoryMXBean memoryBean;
+  // System.nanoTime() at JVM start, to place GC times (ms of uptime) on the loop clock
+  private static long uptimeOffsetNanos;
+  private static long budgetNanos;
+
+  // Ring of recent loops
+  private static final long[] loopStarts = new long[LOOP_HISTORY];
+  private static final long[] loopEnds = new long[LOOP_HISTORY];
+  private static final boolean[] loopOverran = new boolean[LOOP_HISTORY];
+  private static final boolean[] loopOverlappedGc = new boolean[LOOP_HISTORY];
+  private static long loopCount = 0;
+
+  private static long pauseCount = 0;
+  private static long totalPauseMillis = 0;
+  private static long gcOverruns = 0;
+  private static long codeOverruns = 0;
+  private static long gcOverlappedLoops = 0;
+  private static long lastHeapSample = 0;
+
+  private static RobotTelemetry.NumberHandle pauseCountTelemetry;
+  private static RobotTelemetry.NumberHandle totalPauseTelemetry;
+  private static RobotTelemetry.NumberHandle gcOverrunsTelemetry;
+  private static RobotTelemetry.NumberHandle codeOverrunsTelemetry;
+  private static RobotTelemetry.NumberHandle overlappedLoopsTelemetry;
+  private static RobotTelemetry.NumberHandle heapUsedTelemetry;
+  private static RobotTelemetry.NumberHandle heapCommittedTelemetry;
+  private static RobotTelemetry.NumberHandle heapMaxTelemetry;
+  private static RobotTelemetry.NumberHandle heapAfterGcTelemetry;
+
+  private GcMonitor() {}
+
+  /**
+   * Subscribes to GC notifications. Call once at startup.
+   *
+   * @param loopBudgetSeconds Loop duration that counts as an overrun
+   */
+  public static void start(double loopBudgetSeconds) {
+    if (memoryBean != null) {
+      return;
+    }
+    memoryBean = ManagementFactory.getMemoryMXBean();
+    uptimeOffsetNanos =
+        System.nanoTime() - ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000L;
+    budgetNanos = (long) (loopBudgetSeconds * 1e9);
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        heapPoolNames.add(pool.getName());
+      }
+    }
+
+    pauseCountTelemetry = RobotTelemetry.numberHandle("GC/PauseCount");
+    totalPauseTelemetry = RobotTelemetry.numberHandle("GC/TotalPauseMs");
+    gcOverrunsTelemetry = RobotTelemetry.numberHandle("GC/Overruns/GC");
+    codeOverrunsTelemetry = RobotTelemetry.numberHandle("GC/Overruns/Code");
+    overlappedLoopsTelemetry = RobotTelemetry.numberHandle("GC/OverlappedLoops");
+    heapUsedTelemetry = RobotTelemetry.numberHandle("GC/HeapUsedMB", 0.1);
+    heapCommittedTelemetry = RobotTelemetry.numberHandle("GC/HeapCommittedMB", 0.1);
+    heapMaxTelemetry = RobotTelemetry.numberHandle("GC/HeapMaxMB");
+    heapAfterGcTelemetry = RobotTelemetry.numberHandle("GC/HeapAfterGCMB");
+
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      if (collector instanceof NotificationEmitter emitter) {
+        emitter.addNotificationListener(
+            (notification, handback) -> {
+              if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(
+                  notification.getType())) {
+                pendingPauses.add(
+                    new PauseEvent(
+                        GarbageCollectionNotificationInfo.from(
+                            (CompositeData) notification.getUserData())));
+              }
+            },
+            null,
+            null);
+      }
+    }
+  }
+
+  private static long heapBytes(Map<String, MemoryUsage> usageByPool) {
+    long bytes = 0;
+    for (Map.Entry<String, MemoryUsage> entry : usageByPool.entrySet()) {
+      if (heapPoolNames.contains(entry.getKey())) {
+        bytes += entry.getValue().getUsed();
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Records a finished loop, logs any GC pauses reported since the last call and tags the loops
+   * they overlapped. Main thread only.
+   *
+   * @param startNanos {@link System#nanoTime()} at the start of the loop
+   * @param endNanos {@link System#nanoTime()} at the end of the loop
+   */
+  public static void recordLoop(long startNanos, long endNanos) {
+    if (memoryBean == null) {
+      return;
+    }
+    int slot = (int) (loopCount % LOOP_HISTORY);
+    if (loopCount >= LOOP_HISTORY) {
+      classifyLoop(slot);
+    }
+    loopStarts[slot] = startNanos;
+    loopEnds[slot] = endNanos;
+    loopOverran[slot] = endNanos - startNanos > budgetNanos;
+    loopOverlappedGc[slot] = false;
+    loopCount++;
+
+    PauseEvent pause;
+    while ((pause = pendingPauses.poll()) != null) {
+      logPause(pause);
+      loopPauses.add(pause);
+    }
+    logLoopPauses();
+
+    if (endNanos - lastHeapSample >= HEAP_SAMPLE_PERIOD_NANOS) {
+      lastHeapSample = endNanos;
+      MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+      heapUsedTelemetry.set(heap.getUsed() / 1e6);
+      heapCommittedTelemetry.set(heap.getCommitted() / 1e6);
+      heapMaxTelemetry.set(heap.getMax() / 1e6);
+    }
+  }
+
+  // Empty arrays on quiet loops, so two identical bursts in a row are still logged twice
+  private static void logLoopPauses() {
+    int count = loopPauses.size();
+    String[] collectors = count == 0 ? NO_STRINGS : new String[count];
+    String[] causes = count == 0 ? NO_STRINGS : new String[count];
+    double[] durations = count == 0 ? NO_DOUBLES : new double[count];
+    double[] heapBefore = count == 0 ? NO_DOUBLES : new double[count];
+    double[] heapAfter = count == 0 ? NO_DOUBLES : new double[count];
+    for (int i = 0; i < count; i++) {
+      PauseEvent pause = loopPauses.get(i);
+      collectors[i] = pause.m_name;
+      causes[i] = pause.m_cause;
+      durations[i] = pause.m_durationMillis;
+      heapBefore[i] = pause.m_heapBeforeBytes / 1e6;
+      heapAfter[i] = pause.m_heapAfterBytes / 1e6;
+    }
+    loopPauses.clear();
+    Logger.recordOutput("GC/Pauses/Collectors", collectors);
+    Logger.recordOutput("GC/Pauses/Causes", causes);
+    Logger.recordOutput("GC/Pauses/DurationsMs", durations);
+    Logger.recordOutput("GC/Pauses/HeapBeforeMB", heapBefore);
+    Logger.recordOutput("GC/Pauses/HeapAfterMB", heapAfter);
+  }
+
+  private static void classifyLoop(int slot) {
+    if (loopOverlappedGc[slot]) {
+      gcOverlappedLoops++;
+      overlappedLoopsTelemetry.set(gcOverlappedLoops);
+    }
+    if (loopOverran[slot]) {
+      if (loopOverlappedGc[slot]) {
+        gcOverruns++;
+        gcOverrunsTelemetry.set(gcOverruns);
+      } else {
+        codeOverruns++;
+        codeOverrunsTelemetry.set(codeOverruns);
+      }
+    }
+  }
+
+  private static void logPause(PauseEvent pause) {
+    pauseCount++;
+    totalPauseMillis += pause.m_durationMillis;
+    pauseCountTelemetry.set(pauseCount);
+    totalPauseTelemetry.set(totalPauseMillis);
+    heapAfterGcTelemetry.set(pause.m_heapAfterBytes / 1e6);
+
+    // Convenience copy of the newest pause; GC/Pauses/ has all of them
+    Logger.recordOutput("GC/LastPause/Collector", pause.m_name);
+    Logger.recordOutput("GC/LastPause/Cause", pause.m_cause);
+    Logger.recordOutput("GC/LastPause/DurationMs", pause.m_durationMillis);
+    Logger.recordOutput("GC/LastPause/HeapBeforeMB", pause.m_heapBeforeBytes / 1e6);
+    Logger.recordOutput("GC/LastPause/HeapAfterMB", pause.m_heapAfterBytes / 1e6);
+
+    if (!pause.m_stopsTheWorld) {
+      return;
+    }
+    int stored = (int) Math.min(loopCount, LOOP_HISTORY);
+    for (int i = 0; i < stored; i++) {
+      if (pause.m_startNanos < loopEnds[i] && pause.m_endNanos > loopStarts[i]) {
+        loopOverlappedGc[i] = true;
+      }
+    }
+  }
+}
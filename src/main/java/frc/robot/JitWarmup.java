@@ -0,0 +1,204 @@
+package frc.robot;
+
+import com.pathplanner.lib.controllers.PPLTVController;
+import com.pathplanner.lib.path.GoalEndState;
+import com.pathplanner.lib.path.IdealStartingState;
+import com.pathplanner.lib.path.PathPlannerPath;
+import com.pathplanner.lib.trajectory.PathPlannerTrajectory;
+import com.pathplanner.lib.trajectory.PathPlannerTrajectoryState;
+import edu.wpi.first.math.estimator.DifferentialDrivePoseEstimator;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Pose3d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.geometry.Rotation3d;
+import edu.wpi.first.math.geometry.Transform3d;
+import edu.wpi.first.math.geometry.Translation3d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.wpilibj.DriverStation;
+import frc.robot.constants.CameraConstants;
+import frc.robot.constants.Constants;
+import frc.robot.subsystems.DriveSubsystem;
+import frc.robot.utils.AutoAimRegression;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the code paths that first execute mid-match (on-the-fly path generation, vision fusion, the
+ * auto aim lookup and the path follower) against dummy data while the robot is disabled, so the JIT
+ * has compiled them before they are needed. Progress is published under "Warmup/".
+ *
+ * <p>The work runs on an ordinary background thread, below every real-time thread, and pauses while
+ * the robot is enabled. It never touches the real pose estimator, never schedules a command and
+ * never writes to a motor: commands are built but dropped, and the follower step stops at the
+ * computed wheel speeds.
+ *
+ * <p>Warm-up ends once {@link Constants#JIT_WARMUP_MIN_ITERATIONS} have run and a whole batch
+ * passes without new JIT compilation, or after {@link Constants#JIT_WARMUP_MAX_ITERATIONS}.
+ */
+public final class JitWarmup {
+  private static final int BATCH_SIZE = 100;
+
+  private static Thread warmupThread;
+
+  // Written by the warm-up thread, read by the main thread
+  private static volatile int iterations = 0;
+  private static volatile boolean complete = false;
+  private static volatile String report = "";
+
+  private static boolean reported = false;
+  private static RobotTelemetry.NumberHandle iterationsTelemetry;
+  private static RobotTelemetry.BooleanHandle completeTelemetry;
+
+  // Warm-up thread only
+  private static DifferentialDrivePoseEstimator dummyEstimator;
+  private static PPLTVController dummyController;
+  private static double dummyTime = 0.0;
+
+  private JitWarmup() {}
+
+  /**
+   * Starts the warm-up thread. Call once at startup, after the drivetrain has configured
+   * PathPlanner.
+   *
+   * @param drive Drivetrain whose path generation is warmed; only output-free methods are used
+   */
+  public static void start(DriveSubsystem drive) {
+    if (warmupThread != null) {
+      return;
+    }
+    iterationsTelemetry = RobotTelemetry.numberHandle("Warmup/Iterations");
+    completeTelemetry = RobotTelemetry.booleanHandle("Warmup/Complete");
+
+    warmupThread = new Thread(() -> run(drive), "JitWarmup");
+    warmupThread.setDaemon(true);
+    warmupThread.start();
+  }
+
+  private static void run(DriveSubsystem drive) {
+    CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+    boolean trackCompiles = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+    long startNanos = System.nanoTime();
+    long firstBatchNanos = 0;
+    long lastBatchNanos = 0;
+    long lastCompileMillis = trackCompiles ? compiler.getTotalCompilationTime() : 0;
+    try {
+      dummyEstimator =
+          new DifferentialDrivePoseEstimator(
+              DriveConstants.kDriveKinematics, new Rotation2d(), 0.0, 0.0, new Pose2d());
+      dummyController = new PPLTVController(0.02);
+      while (iterations < Constants.JIT_WARMUP_MAX_ITERATIONS) {
+        if (!DriverStation.isDisabled()) {
+          // Never compete with a running match; pick up again on the next disable
+          Thread.sleep(100);
+          continue;
+        }
+        long batchStart = System.nanoTime();
+        int done = 0;
+        while (done < BATCH_SIZE && DriverStation.isDisabled()) {
+          warmOnce(drive, iterations + done);
+          done++;
+        }
+        if (done < BATCH_SIZE) {
+          // Enabled mid-batch: stop now, and keep the partial batch out of the timing and the
+          // convergence check
+          iterations += done;
+          continue;
+        }
+        lastBatchNanos = System.nanoTime() - batchStart;
+        if (firstBatchNanos == 0) {
+          firstBatchNanos = lastBatchNanos;
+        }
+        iterations += BATCH_SIZE;
+
+        if (trackCompiles && iterations >= Constants.JIT_WARMUP_MIN_ITERATIONS) {
+          long compileMillis = compiler.getTotalCompilationTime();
+          if (compileMillis == lastCompileMillis) {
+            break;
+          }
+          lastCompileMillis = compileMillis;
+        }
+        Thread.yield();
+      }
+      report =
+          String.format(
+              "JIT warm-up complete: %d iterations in %.1f s, %.0f us/iteration at start,"
+                  + " %.0f us/iteration at end",
+              iterations,
+              (System.nanoTime() - startNanos) / 1e9,
+              firstBatchNanos / 1e3 / BATCH_SIZE,
+              lastBatchNanos / 1e3 / BATCH_SIZE);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      report = "JIT warm-up interrupted after " + iterations + " iterations";
+    } catch (RuntimeException e) {
+      report = "JIT warm-up stopped after " + iterations + " iterations: " + e;
+    } finally {
+      // Let the dummy objects be collected
+      dummyEstimator = null;
+      dummyController = null;
+      complete = true;
+    }
+  }
+
+  /** One pass over every warmed path with slightly different dummy data. */
+  private static void warmOnce(DriveSubsystem drive, int seed) {
+    double jitter = (seed % 50) / 100.0;
+    Pose2d robotPose = new Pose2d(2.0 + jitter, 3.0 - jitter, Rotation2d.fromDegrees(seed % 360));
+
+    // AimCommand: target geometry from a camera result, then the on-the-fly path and command
+    Transform3d cameraToTarget =
+        new Transform3d(
+            new Translation3d(3.0 + jitter, 0.5 - jitter, 0.0), new Rotation3d(0, 0, jitter));
+    Transform3d targetOffset = cameraToTarget.plus(CameraConstants.TARGETING_CAMERA1.LOCATION);
+    Pose2d targetPose = new Pose3d(robotPose).plus(targetOffset).toPose2d();
+    List<Pose2d> poses = new ArrayList<>();
+    poses.add(robotPose);
+    poses.add(new Pose2d(targetPose.getTranslation(), targetPose.getRotation()));
+    if (DriveConstants.autoConfig != null) {
+      // Built and dropped, never scheduled
+      drive.GenerateOnTheFlyCommand(poses);
+    }
+
+    // Vision fusion into a private estimator, on its own clock
+    dummyTime += 0.02;
+    dummyEstimator.updateWithTime(dummyTime, robotPose.getRotation(), jitter, jitter);
+    dummyEstimator.addVisionMeasurement(robotPose, dummyTime - 0.01);
+    dummyEstimator.getEstimatedPosition();
+
+    // Auto aim lookup
+    double distance = AutoAimRegression.calculateDistance(2.0, 0.5, 0.3, jitter);
+    AutoAimRegression.predictAngle(distance);
+    AutoAimRegression.predictSpeed(distance);
+
+    // One path follower step, stopping at wheel speeds
+    if (DriveConstants.autoConfig != null) {
+      PathPlannerPath path =
+          new PathPlannerPath(
+              PathPlannerPath.waypointsFromPoses(poses),
+              DriveConstants.OnTheFly.kPathConstraints,
+              new IdealStartingState(0, robotPose.getRotation()),
+              new GoalEndState(0, targetPose.getRotation()));
+      PathPlannerTrajectory trajectory =
+          path.generateTrajectory(
+              new ChassisSpeeds(), robotPose.getRotation(), DriveConstants.autoConfig);
+      PathPlannerTrajectoryState state = trajectory.sample(trajectory.getTotalTimeSeconds() / 2);
+      ChassisSpeeds speeds = dummyController.calculateRobotRelativeSpeeds(robotPose, state);
+      DriveConstants.kDriveKinematics.toWheelSpeeds(speeds);
+    }
+  }
+
+  /** Publishes warm-up progress and prints the report once. Main thread only. */
+  public static void periodic() {
+    if (warmupThread == null || reported) {
+      return;
+    }
+    iterationsTelemetry.set(iterations);
+    if (complete) {
+      reported = true;
+      completeTelemetry.set(true);
+      AlertBus.event(AlertBus.Severity.INFO, report);
+    }
+  }
+}
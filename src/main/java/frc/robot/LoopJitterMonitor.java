@@ -0,0 +1,87 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.RobotController;
+import frc.robot.constants.Constants;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Measures how late each robot loop starts relative to its scheduled start, published under
+ * "LoopTiming/".
+ *
+ * <p>LoggedRobot wakes on a FPGA notifier alarm every period, so the schedule is tracked on the
+ * FPGA clock. A loop that starts after the previous one overran is not scheduling jitter: it is
+ * counted as a late start and the schedule is re-anchored to it, as LoggedRobot does.
+ *
+ * <p>Jitter is measured on entry to {@code loopFunc()}, after AdvantageKit's pre-user logging, so
+ * it includes that step as well as the wake-up latency of the main thread.
+ */
+public final class LoopJitterMonitor {
+  private static final long[] bounds = Constants.LOOP_JITTER_BUCKETS_MICROS;
+  // One count per bound, plus a final bucket for jitter at or above the last bound
+  private static final long[] bucketCounts = new long[bounds.length + 1];
+  private static final LoopProfiler.Phase jitterPhase = LoopProfiler.phase("Loop/StartJitter");
+
+  private static long periodMicros = 0;
+  private static long expectedStart = 0;
+  private static long lastEnd = 0;
+  private static long lateStarts = 0;
+  private static long lastReport = 0;
+  private static RobotTelemetry.NumberHandle lateStartsTelemetry;
+
+  private LoopJitterMonitor() {}
+
+  /**
+   * Starts measuring. Call once at startup.
+   *
+   * @param periodSeconds Main loop period
+   */
+  public static void start(double periodSeconds) {
+    periodMicros = (long) (periodSeconds * 1e6);
+    lateStartsTelemetry = RobotTelemetry.numberHandle("LoopTiming/LateStarts");
+  }
+
+  /** Records the start of a loop. Call first thing in {@code loopFunc()}. Main thread only. */
+  public static void loopStarted() {
+    if (periodMicros == 0) {
+      return;
+    }
+    long now = RobotController.getFPGATime();
+    if (expectedStart == 0) {
+      expectedStart = now;
+      return;
+    }
+    expectedStart += periodMicros;
+    long jitter = now - expectedStart;
+    if (lastEnd - expectedStart >= 0 || jitter >= periodMicros / 2) {
+      // The previous loop overran, so this one ran as soon as it could
+      lateStarts++;
+      lateStartsTelemetry.set(lateStarts);
+      expectedStart = now;
+      return;
+    }
+    jitter = Math.max(jitter, 0);
+    Logger.recordOutput("LoopTiming/StartJitterMicros", jitter);
+    jitterPhase.record(jitter * 1000L, 0);
+    int bucket = 0;
+    while (bucket < bounds.length && jitter >= bounds[bucket]) {
+      bucket++;
+    }
+    bucketCounts[bucket]++;
+  }
+
+  /**
+   * Records the end of a loop and publishes the histogram every {@link
+   * Constants#PROFILER_REPORT_PERIOD}. Call last thing in {@code loopFunc()}. Main thread only.
+   */
+  public static void loopEnded() {
+    if (periodMicros == 0) {
+      return;
+    }
+    lastEnd = RobotController.getFPGATime();
+    if (lastEnd - lastReport < Constants.PROFILER_REPORT_PERIOD * 1e6) {
+      return;
+    }
+    lastReport = lastEnd;
+    Logger.recordOutput("LoopTiming/JitterHistogram", bucketCounts);
+  }
+}
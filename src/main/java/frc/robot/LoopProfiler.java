@@ -0,0 +1,370 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.constants.Constants;
+import frc.robot.constants.TweakConstants;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Times the phases of each robot loop and publishes rolling p50 / p99 / max durations per phase
+ * under "Profiler/".
+ *
+ * <p>Subsystems time their own {@code periodic()} and {@code simulationPeriodic()} with a {@link
+ * Phase}. Commands are timed through the scheduler's initialize / execute / finish callbacks: each
+ * callback closes the interval since the previous mark, so "execute" covers the command's {@code
+ * execute()} and "end" covers {@code isFinished()} plus {@code end()}. Each command instance has
+ * its own phases; instances sharing a name, such as unnamed {@code InstantCommand}s, are published
+ * with a "#2", "#3", ... suffix. A command scheduled by a trigger has the polling of the triggers
+ * bound before it folded into its "initialize". Trigger polling itself is bracketed by markers
+ * bound at either end of the default button loop.
+ *
+ * <p>With {@link TweakConstants#ENABLE_ALLOCATION_METER} on, phases timed with {@link
+ * Phase#start()} and {@link Phase#stop()} also read the main thread's allocated byte counter and
+ * publish bytes per call. A phase given an allocation budget raises "Alerts/AllocationBudget" when
+ * it goes over.
+ *
+ * <p>When {@link TweakConstants#ENABLE_LOOP_PROFILER} is off, no scheduler callbacks are registered
+ * and every {@link Phase} call returns on a constant branch.
+ */
+public final class LoopProfiler {
+  private static final boolean enabled = TweakConstants.ENABLE_LOOP_PROFILER;
+
+  // Null when allocation metering is off or unsupported by the JVM
+  private static final com.sun.management.ThreadMXBean allocationBean = allocationBean();
+  private static final boolean metering = allocationBean != null;
+
+  private static final List<Phase> phases = new ArrayList<>();
+  // Keyed by instance, since unnamed commands of one class all share the class name
+  private static final Map<Command, Phase[]> commandPhases = new IdentityHashMap<>();
+  // Instances seen per command name, to tell same-named commands apart when publishing
+  private static final Map<String, Integer> commandNameCounts = new HashMap<>();
+  private static final String[] COMMAND_STAGES = {"initialize", "execute", "end"};
+  private static final int INITIALIZE = 0;
+  private static final int EXECUTE = 1;
+  private static final int END = 2;
+  private static final double[] sortScratch = new double[Constants.PROFILER_WINDOW_SIZE];
+
+  private static Phase triggerPhase;
+  // Time of the last scheduler mark this loop, or 0 outside the scheduler run
+  private static long lastMark = 0;
+  // Start of trigger polling, or 0 when not polling
+  private static long triggerPollStart = 0;
+  // Command initialize time spent inside trigger polling, excluded from the trigger phase
+  private static long triggerInitNanos = 0;
+  private static double lastReportTime = 0.0;
+  private static AlertBus.Alert allocationAlert;
+  private static final StringBuilder allocationAlertBuilder = new StringBuilder();
+
+  private LoopProfiler() {}
+
+  /** A named span of the robot loop with a rolling window of durations. Main thread only. */
+  public static final class Phase {
+    private final String m_name;
+    // Durations in microseconds, oldest overwritten first
+    private final double[] m_samples = new double[Constants.PROFILER_WINDOW_SIZE];
+    private int m_next = 0;
+    private int m_count = 0;
+    private int m_newSamples = 0;
+    private long m_start = 0;
+    // Most recent duration and the time it ended, for the overrun watchdog
+    private long m_lastNanos = 0;
+    private long m_lastEnd = 0;
+
+    // Allocation metering
+    private long m_startBytes = 0;
+    private long m_windowBytes = 0;
+    private long m_windowMaxBytes = 0;
+    private int m_windowCalls = 0;
+    private long m_allocationBudget = 0;
+
+    private RobotTelemetry.NumberHandle m_p50Telemetry;
+    private RobotTelemetry.NumberHandle m_p99Telemetry;
+    private RobotTelemetry.NumberHandle m_maxTelemetry;
+    private RobotTelemetry.NumberHandle m_bytesTelemetry;
+    private RobotTelemetry.NumberHandle m_maxBytesTelemetry;
+
+    private Phase(String name) {
+      m_name = name;
+    }
+
+    /** Returns the name this phase is published under. */
+    public String getName() {
+      return m_name;
+    }
+
+    /**
+     * Raises "Alerts/AllocationBudget" when a single call of this phase allocates more than the
+     * budget. Only checked while the allocation meter is on.
+     *
+     * @param bytes Maximum bytes per call
+     * @return This phase, for chaining at construction
+     */
+    public Phase withAllocationBudget(long bytes) {
+      m_allocationBudget = bytes;
+      return this;
+    }
+
+    /** Marks the start of the phase. */
+    public void start() {
+      if (enabled) {
+        m_start = System.nanoTime();
+        if (metering) {
+          m_startBytes = allocationBean.getCurrentThreadAllocatedBytes();
+        }
+      }
+    }
+
+    /** Marks the end of the phase and records its duration. */
+    public void stop() {
+      if (enabled && m_start != 0) {
+        if (metering) {
+          recordAllocation(allocationBean.getCurrentThreadAllocatedBytes() - m_startBytes);
+        }
+        long now = System.nanoTime();
+        record(now - m_start, now);
+        m_start = 0;
+      }
+    }
+
+    void recordAllocation(long bytes) {
+      m_windowBytes += bytes;
+      m_windowMaxBytes = Math.max(m_windowMaxBytes, bytes);
+      m_windowCalls++;
+    }
+
+    void record(long nanos, long end) {
+      m_lastNanos = nanos;
+      m_lastEnd = end;
+      m_samples[m_next] = nanos / 1e3;
+      m_next = (m_next + 1) % m_samples.length;
+      if (m_count < m_samples.length) {
+        m_count++;
+      }
+      m_newSamples++;
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the window, in microseconds.
+     *
+     * @param fraction Percentile as a fraction, 0 to 1
+     */
+    double percentile(double fraction) {
+      if (m_count == 0) {
+        return 0.0;
+      }
+      System.arraycopy(m_samples, 0, sortScratch, 0, m_count);
+      Arrays.sort(sortScratch, 0, m_count);
+      int rank = (int) Math.ceil(fraction * m_count) - 1;
+      return sortScratch[Math.max(0, Math.min(m_count - 1, rank))];
+    }
+
+    void publish() {
+      if (m_newSamples == 0) {
+        return;
+      }
+      m_newSamples = 0;
+      if (m_p50Telemetry == null) {
+        String prefix = "Profiler/" + m_name;
+        m_p50Telemetry =
+            RobotTelemetry.numberHandle(prefix + "/P50Micros").withTier(RobotTelemetry.Tier.PIT);
+        m_p99Telemetry =
+            RobotTelemetry.numberHandle(prefix + "/P99Micros").withTier(RobotTelemetry.Tier.PIT);
+        m_maxTelemetry =
+            RobotTelemetry.numberHandle(prefix + "/MaxMicros").withTier(RobotTelemetry.Tier.PIT);
+      }
+      m_p50Telemetry.set(percentile(0.5));
+      m_p99Telemetry.set(percentile(0.99));
+      // The sorted window is still in the scratch array
+      m_maxTelemetry.set(sortScratch[m_count - 1]);
+
+      if (m_windowCalls > 0) {
+        if (m_bytesTelemetry == null) {
+          String prefix = "Profiler/" + m_name;
+          m_bytesTelemetry =
+              RobotTelemetry.numberHandle(prefix + "/BytesPerCall")
+                  .withTier(RobotTelemetry.Tier.PIT);
+          m_maxBytesTelemetry =
+              RobotTelemetry.numberHandle(prefix + "/MaxBytesPerCall")
+                  .withTier(RobotTelemetry.Tier.PIT);
+        }
+        m_bytesTelemetry.set((double) m_windowBytes / m_windowCalls);
+        m_maxBytesTelemetry.set(m_windowMaxBytes);
+      }
+    }
+
+    /** Appends a budget alert for this phase if it went over budget this window. */
+    void appendBudgetAlert(StringBuilder out) {
+      if (m_allocationBudget > 0 && m_windowMaxBytes > m_allocationBudget) {
+        if (out.length() > 0) {
+          out.append("; ");
+        }
+        out.append(m_name)
+            .append(" allocated up to ")
+            .append(m_windowMaxBytes)
+            .append(" B (budget ")
+            .append(m_allocationBudget)
+            .append(" B)");
+      }
+      m_windowBytes = 0;
+      m_windowMaxBytes = 0;
+      m_windowCalls = 0;
+    }
+  }
+
+  private static com.sun.management.ThreadMXBean allocationBean() {
+    if (!enabled || !TweakConstants.ENABLE_ALLOCATION_METER) {
+      return null;
+    }
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+        || !bean.isThreadAllocatedMemorySupported()) {
+      return null;
+    }
+    bean.setThreadAllocatedMemoryEnabled(true);
+    return bean;
+  }
+
+  /**
+   * Creates a phase. Call once at construction and keep the result.
+   *
+   * @param name Name the phase is published under, e.g. "Drive/periodic"
+   */
+  public static Phase phase(String name) {
+    Phase phase = new Phase(name);
+    phases.add(phase);
+    return phase;
+  }
+
+  /**
+   * Registers the scheduler callbacks and binds the trigger-polling start marker. Call before any
+   * triggers are bound.
+   */
+  public static void configureScheduler() {
+    if (!enabled) {
+      return;
+    }
+    CommandScheduler scheduler = CommandScheduler.getInstance();
+    triggerPhase = phase("Scheduler/Triggers");
+    scheduler
+        .getDefaultButtonLoop()
+        .bind(
+            () -> {
+              triggerPollStart = System.nanoTime();
+              triggerInitNanos = 0;
+              lastMark = triggerPollStart;
+            });
+    scheduler.onCommandInitialize(command -> markCommand(command, INITIALIZE));
+    scheduler.onCommandExecute(command -> markCommand(command, EXECUTE));
+    scheduler.onCommandFinish(command -> markCommand(command, END));
+  }
+
+  /** Binds the trigger-polling end marker. Call after every trigger is bound. */
+  public static void finishTriggerBindings() {
+    if (!enabled) {
+      return;
+    }
+    CommandScheduler.getInstance()
+        .getDefaultButtonLoop()
+        .bind(
+            () -> {
+              long now = System.nanoTime();
+              triggerPhase.record(now - triggerPollStart - triggerInitNanos, now);
+              triggerPollStart = 0;
+              lastMark = now;
+            });
+  }
+
+  private static void markCommand(Command command, int stage) {
+    long now = System.nanoTime();
+    if (lastMark != 0) {
+      long elapsed = now - lastMark;
+      commandPhase(command, stage).record(elapsed, now);
+      if (triggerPollStart != 0) {
+        triggerInitNanos += elapsed;
+      }
+    }
+    lastMark = now;
+  }
+
+  static Phase commandPhase(Command command, int stage) {
+    Phase[] stages = commandPhases.get(command);
+    if (stages == null) {
+      // The first command with a name keeps it; later ones get "#2", "#3", ...
+      int instance = commandNameCounts.merge(command.getName(), 1, Integer::sum);
+      String name = instance == 1 ? command.getName() : command.getName() + "#" + instance;
+      stages = new Phase[COMMAND_STAGES.length];
+      for (int i = 0; i < stages.length; i++) {
+        stages[i] = phase("Commands/" + name + "/" + COMMAND_STAGES[i]);
+      }
+      commandPhases.put(command, stages);
+    }
+    return stages[stage];
+  }
+
+  /**
+   * Appends the slowest phases that ended at or after the given time, slowest first, as "name
+   * N.N ms" pairs. Main thread only; allocates, so only call it off the hot path.
+   *
+   * @param out Builder to append to
+   * @param since {@link System#nanoTime()} value, usually the start of the loop
+   * @param count Maximum number of phases to list
+   */
+  static void appendSlowestPhases(StringBuilder out, long since, int count) {
+    List<Phase> recent = new ArrayList<>();
+    for (Phase phase : phases) {
+      if (phase.m_lastEnd != 0 && phase.m_lastEnd - since >= 0) {
+        recent.add(phase);
+      }
+    }
+    recent.sort((a, b) -> Long.compare(b.m_lastNanos, a.m_lastNanos));
+    for (int i = 0; i < Math.min(count, recent.size()); i++) {
+      Phase phase = recent.get(i);
+      if (i > 0) {
+        out.append(", ");
+      }
+      out.append(phase.m_name).append(String.format(" %.1f ms", phase.m_lastNanos / 1e6));
+    }
+    if (recent.isEmpty()) {
+      out.append("none recorded");
+    }
+  }
+
+  /**
+   * Ends the loop's scheduler marks and publishes the phase percentiles every {@link
+   * Constants#PROFILER_REPORT_PERIOD}. Called once per loop before the telemetry flush.
+   */
+  public static void periodic() {
+    if (!enabled) {
+      return;
+    }
+    // Commands scheduled outside the scheduler run (e.g. autonomousInit) have no start mark
+    lastMark = 0;
+    double now = Timer.getFPGATimestamp();
+    if (now - lastReportTime < Constants.PROFILER_REPORT_PERIOD) {
+      return;
+    }
+    lastReportTime = now;
+    allocationAlertBuilder.setLength(0);
+    for (int i = 0; i < phases.size(); i++) {
+      Phase phase = phases.get(i);
+      phase.publish();
+      phase.appendBudgetAlert(allocationAlertBuilder);
+    }
+    if (metering) {
+      if (allocationAlert == null) {
+        allocationAlert = AlertBus.alert("AllocationBudget", AlertBus.Severity.WARNING, "");
+      }
+      if (allocationAlertBuilder.length() > 0) {
+        allocationAlert.setText(allocationAlertBuilder.toString());
+      }
+      allocationAlert.set(allocationAlertBuilder.length() > 0);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Threads;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.constants.Constants;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Watches each robot loop from a separate thread. When a loop runs past its budget, the watchdog
+ * thread samples the main thread's stack while the overrun is still in progress. When the loop
+ * finishes, the main thread logs that sample with the active commands and the slowest {@link
+ * LoopProfiler} phases under "LoopWatchdog/".
+ *
+ * <p>Only the stack sample is taken off the main thread; everything else is read on the main thread
+ * after the loop, so no robot state is shared with the watchdog thread.
+ */
+public final class LoopWatchdog {
+  private static Thread mainThread;
+  private static Thread watchdogThread;
+  private static long budgetNanos;
+
+  // Written by the main thread, read by the watchdog thread
+  private static volatile long loopSequence = 0;
+  private static volatile long loopStart = 0;
+
+  // Written by the watchdog thread, read by the main thread after the loop
+  private static volatile long sampledSequence = -1;
+  private static volatile long sampledAfterNanos = 0;
+  private static volatile StackTraceElement[] sampledStack;
+
+  private static final Set<Command> activeCommands = new LinkedHashSet<>();
+  private static long overrunCount = 0;
+  private static double lastPrintTime = Double.NEGATIVE_INFINITY;
+  private static RobotTelemetry.NumberHandle overrunCountTelemetry;
+
+  private LoopWatchdog() {}
+
+  /**
+   * Starts the watchdog thread. Call from the main robot thread after the scheduler is configured.
+   *
+   * @param budgetSeconds Loop duration that counts as an overrun
+   */
+  public static void start(double budgetSeconds) {
+    if (watchdogThread != null) {
+      return;
+    }
+    mainThread = Thread.currentThread();
+    budgetNanos = (long) (budgetSeconds * 1e9);
+    overrunCountTelemetry = RobotTelemetry.numberHandle("LoopWatchdog/Overruns");
+
+    CommandScheduler scheduler = CommandScheduler.getInstance();
+    scheduler.onCommandInitialize(activeCommands::add);
+    scheduler.onCommandFinish(activeCommands::remove);
+    scheduler.onCommandInterrupt(activeCommands::remove);
+
+    watchdogThread = new Thread(LoopWatchdog::run, "LoopWatchdog");
+    watchdogThread.setDaemon(true);
+    watchdogThread.start();
+  }
+
+  /** Marks the start of a loop. Main thread only. */
+  public static void beginLoop() {
+    if (watchdogThread == null) {
+      return;
+    }
+    loopSequence++;
+    loopStart = System.nanoTime();
+    LockSupport.unpark(watchdogThread);
+  }
+
+  /** Marks the end of a loop and reports it if it overran. Main thread only. */
+  public static void endLoop() {
+    if (watchdogThread == null) {
+      return;
+    }
+    long start = loopStart;
+    long elapsed = System.nanoTime() - start;
+    loopStart = 0;
+    if (elapsed > budgetNanos) {
+      overrunCount++;
+      overrunCountTelemetry.set(overrunCount);
+      reportOverrun(start, elapsed);
+    }
+  }
+
+  private static void run() {
+    if (frc.robot.constants.TweakConstants.REALTIME_MAIN_LOOP) {
+      // A real-time main loop would otherwise keep this thread off the CPU during an overrun
+      Threads.setCurrentThreadPriority(true, Constants.LOOP_WATCHDOG_RT_PRIORITY);
+    }
+    while (!Thread.currentThread().isInterrupted()) {
+      long start = loopStart;
+      long sequence = loopSequence;
+      if (start == 0 || sampledSequence == sequence) {
+        // Between loops or already sampled; beginLoop() wakes us for the next one
+        LockSupport.parkNanos(budgetNanos);
+        continue;
+      }
+      long now = System.nanoTime();
+      long deadline = start + budgetNanos;
+      if (now - deadline < 0) {
+        LockSupport.parkNanos(deadline - now);
+        continue;
+      }
+      StackTraceElement[] stack = mainThread.getStackTrace();
+      // Discard the sample if the loop finished while it was being taken
+      if (loopStart == start && loopSequence == sequence) {
+        sampledStack = stack;
+        sampledAfterNanos = System.nanoTime() - start;
+        sampledSequence = sequence;
+      }
+    }
+  }
+
+  private static void reportOverrun(long start, long elapsed) {
+    StringBuilder report = new StringBuilder();
+    report.append(
+        String.format(
+            "Loop overrun: %.1f ms (budget %.1f ms)%n", elapsed / 1e6, budgetNanos / 1e6));
+
+    report.append("Slowest phases: ");
+    LoopProfiler.appendSlowestPhases(report, start, 3);
+    report.append(System.lineSeparator());
+
+    report.append("Active commands: ");
+    if (activeCommands.isEmpty()) {
+      report.append("none");
+    }
+    boolean first = true;
+    for (Command command : activeCommands) {
+      report.append(first ? "" : ", ").append(command.getName());
+      first = false;
+    }
+    report.append(System.lineSeparator());
+
+    StackTraceElement[] stack = sampledSequence == loopSequence ? sampledStack : null;
+    if (stack == null) {
+      report.append("Main thread: no sample (watchdog thread was not scheduled in time)");
+    } else {
+      report.append(String.format("Main thread at +%.1f ms:%n", sampledAfterNanos / 1e6));
+      int depth = Math.min(stack.length, Constants.LOOP_WATCHDOG_STACK_DEPTH);
+      for (int i = 0; i < depth; i++) {
+        report.append("  at ").append(stack[i]).append(System.lineSeparator());
+      }
+      if (stack.length > depth) {
+        report.append("  ... ").append(stack.length - depth).append(" more");
+      }
+    }
+
+    String text = report.toString();
+    Logger.recordOutput("LoopWatchdog/LastOverrun", text);
+    double now = Timer.getFPGATimestamp();
+    if (now - lastPrintTime >= Constants.LOOP_WATCHDOG_PRINT_PERIOD) {
+      lastPrintTime = now;
+      DriverStation.reportWarning(text, false);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.XboxController;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
+import frc.robot.constants.Constants;
+import java.util.function.DoubleSupplier;
+import org.littletonrobotics.junction.AutoLog;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Latches every axis, button and POV of the Xbox controller and the flight stick once per loop.
+ * Commands and triggers read the latched values through the suppliers and triggers returned here,
+ * so a loop costs one driver station read per control instead of one per caller, and every consumer
+ * sees the same inputs.
+ *
+ * <p>The snapshot is processed as AdvantageKit inputs under "OperatorInput", so replay feeds the
+ * logged values back in. Its FPGA timestamp lets consumers measure joystick-to-motor latency.
+ */
+public final class OperatorInput {
+  // Xbox controllers report six axes; the flight stick's X, Y, twist and throttle are channels 0-3
+  private static final int XBOX_AXES = 6;
+  private static final int FLIGHTSTICK_AXES = 4;
+  // Same default as CommandXboxController.leftTrigger()
+  private static final double TRIGGER_THRESHOLD = 0.5;
+
+  /** Raw controller state for one loop. */
+  @AutoLog
+  public static class OperatorInputs {
+    public long timestampMicros = 0;
+    public double[] xboxAxes = new double[XBOX_AXES];
+    public int xboxButtons = 0;
+    public int xboxPov = -1;
+    public double[] flightstickAxes = new double[FLIGHTSTICK_AXES];
+    public int flightstickButtons = 0;
+    public int flightstickPov = -1;
+  }
+
+  private static final OperatorInputsAutoLogged inputs = new OperatorInputsAutoLogged();
+
+  private OperatorInput() {}
+
+  /** Reads both controllers and logs the snapshot. Called once at the start of each loop. */
+  public static void update() {
+    inputs.timestampMicros = RobotController.getFPGATime();
+    inputs.xboxButtons = DriverStation.getStickButtons(Constants.CONTROLLER_USB_INDEX);
+    inputs.xboxPov = readPov(Constants.CONTROLLER_USB_INDEX);
+    readAxes(Constants.CONTROLLER_USB_INDEX, inputs.xboxAxes);
+    inputs.flightstickButtons = DriverStation.getStickButtons(Constants.FLIGHTSTICK_USB_INDEX);
+    inputs.flightstickPov = readPov(Constants.FLIGHTSTICK_USB_INDEX);
+    readAxes(Constants.FLIGHTSTICK_USB_INDEX, inputs.flightstickAxes);
+    Logger.processInputs("OperatorInput", inputs);
+  }
+
+  // Only reads axes the controller has; asking for a missing one prints a driver station warning
+  private static void readAxes(int port, double[] axes) {
+    int count = DriverStation.getStickAxisCount(port);
+    for (int i = 0; i < axes.length; i++) {
+      axes[i] = i < count ? DriverStation.getStickAxis(port, i) : 0.0;
+    }
+  }
+
+  private static int readPov(int port) {
+    return DriverStation.getStickPOVCount(port) > 0 ? DriverStation.getStickPOV(port, 0) : -1;
+  }
+
+  /** Returns the FPGA time in microseconds at which this loop's inputs were read. */
+  public static long getTimestampMicros() {
+    return inputs.timestampMicros;
+  }
+
+  /**
+   * Returns microseconds elapsed since this loop's inputs were read. Call right after commanding a
+   * motor to measure joystick-to-motor latency within the robot code.
+   */
+  public static long getAgeMicros() {
+    return RobotController.getFPGATime() - inputs.timestampMicros;
+  }
+
+  // Xbox controller
+
+  /** Returns a supplier of the latched value of an Xbox axis. */
+  public static DoubleSupplier xboxAxis(XboxController.Axis axis) {
+    return () -> inputs.xboxAxes[axis.value];
+  }
+
+  /** Returns a trigger on the latched state of an Xbox button. */
+  public static Trigger xboxButton(XboxController.Button button) {
+    int mask = 1 << (button.value - 1);
+    return new Trigger(() -> (inputs.xboxButtons & mask) != 0);
+  }
+
+  /** Returns a trigger that is true while an Xbox trigger axis is pressed past halfway. */
+  public static Trigger xboxAxisTrigger(XboxController.Axis axis) {
+    return new Trigger(() -> inputs.xboxAxes[axis.value] > TRIGGER_THRESHOLD);
+  }
+
+  /** Returns the latched Xbox POV angle in degrees, or -1 when not pressed. */
+  public static int getXboxPov() {
+    return inputs.xboxPov;
+  }
+
+  // Flight stick
+
+  /**
+   * Returns a supplier of the latched value of a flight stick axis.
+   *
+   * @param channel Axis channel, such as {@link edu.wpi.first.wpilibj.Joystick#kDefaultYChannel}
+   */
+  public static DoubleSupplier flightstickAxis(int channel) {
+    return () -> inputs.flightstickAxes[channel];
+  }
+
+  /**
+   * Returns a trigger on the latched state of a flight stick button.
+   *
+   * @param button Button number, starting at 1
+   */
+  public static Trigger flightstickButton(int button) {
+    int mask = 1 << (button - 1);
+    return new Trigger(() -> (inputs.flightstickButtons & mask) != 0);
+  }
+
+  /** Returns the latched flight stick POV angle in degrees, or -1 when not pressed. */
+  public static int getFlightstickPov() {
+    return inputs.flightstickPov;
+  }
+}
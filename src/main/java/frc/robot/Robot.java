@@ -8,6 +8,7 @@ import edu.wpi.first.wpilibj.Threads;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.CommandScheduler;
 import frc.robot.constants.Constants;
+import frc.robot.subsystems.CameraSubsystem;
 import org.littletonrobotics.junction.LogFileUtil;
 import org.littletonrobotics.junction.LoggedRobot;
 import org.littletonrobotics.junction.Logger;
@@ -27,11 +28,32 @@ public class Robot extends LoggedRobot {
 
   private RobotContainer m_robotContainer;
 
+  // Alerts
+  private final AlertBus.Alert m_autoProfilingAlert =
+      AlertBus.alert("AutoProfiling", AlertBus.Severity.WARNING, "Auto profiling is enabled!");
+  private final AlertBus.Alert m_batterySagAlert =
+      AlertBus.alert(
+              "BatterySag", AlertBus.Severity.WARNING, "Battery voltage sag detected (< 11.0V)!")
+          .withDebounce(Constants.BATTERY_SAG_DEBOUNCE);
+
+  // Profiling
+  private final LoopProfiler.Phase m_loopPhase =
+      LoopProfiler.phase("Loop").withAllocationBudget(Constants.ALLOCATION_BUDGET_PER_LOOP);
+  private final LoopProfiler.Phase m_schedulerPhase = LoopProfiler.phase("Scheduler");
+  private final LoopProfiler.Phase m_containerPhase = LoopProfiler.phase("RobotContainer/periodic");
+  private final LoopProfiler.Phase m_syncPhase = LoopProfiler.phase("SpeedConstants/sync");
+  private final LoopProfiler.Phase m_telemetryPhase = LoopProfiler.phase("Telemetry/flush");
+
   /**
    * This function is run when the robot is first started up and should be used for any
    * initialization code.
    */
   public Robot() {
+    // Start slow file loads now so they overlap logger and subsystem setup
+    RobotStartup.start();
+    RobotStartup.submit("PathPlanner/loadSettings", () -> DriveConstants.autoConfig);
+    CameraSubsystem.preloadFieldLayout();
+
     // Record metadata
     Logger.recordMetadata("ProjectName", BuildConstants.MAVEN_NAME);
     Logger.recordMetadata("BuildDate", BuildConstants.BUILD_DATE);
@@ -59,14 +81,16 @@ public class Robot extends LoggedRobot {
           java.io.File usb2 = new java.io.File("/media/sda2");
           if (usb1.exists() && usb1.isDirectory()) {
             Logger.addDataReceiver(new WPILOGWriter("/media/sda1/logs"));
-            System.out.println("USB Logging initialized on /media/sda1");
+            AlertBus.event(AlertBus.Severity.INFO, "USB Logging initialized on /media/sda1");
           } else if (usb2.exists() && usb2.isDirectory()) {
             Logger.addDataReceiver(new WPILOGWriter("/media/sda2/logs"));
-            System.out.println("USB Logging initialized on /media/sda2");
+            AlertBus.event(AlertBus.Severity.INFO, "USB Logging initialized on /media/sda2");
           } else {
-            System.out.println("WARNING: NO USB STICK FOUND. FALLING BACK TO ROBORIO FLASH!");
-            frc.robot.RobotTelemetry.putString(
-                "Alerts/USB Logging", "No USB Drive Found! Logging to RIO Flash.");
+            AlertBus.alert(
+                    "USB Logging",
+                    AlertBus.Severity.WARNING,
+                    "No USB Drive Found! Logging to RIO Flash.")
+                .set(true);
             Logger.addDataReceiver(new WPILOGWriter("/home/lvuser/logs"));
           }
         }
@@ -93,22 +117,90 @@ public class Robot extends LoggedRobot {
     // Start logging! No more data receivers, replay sources, or metadata values may be added.
     Logger.start();
 
+    // Let the dashboard pick how much telemetry is published
+    RobotTelemetry.configureTierChooser();
+
+    // Move NetworkTables telemetry publishing off the main loop
+    if (frc.robot.constants.TweakConstants.ASYNC_TELEMETRY_PUBLISHING) {
+      RobotTelemetry.startAsyncPublisher();
+    }
+
     if (frc.robot.constants.TweakConstants.DISABLE_BROWNOUT_PROTECTION) {
       edu.wpi.first.wpilibj.RobotController.setBrownoutVoltage(0.0);
     }
 
     if (frc.robot.constants.TweakConstants.FAST_BOOT_RIO_MODE) {
-      System.out.println("FAST BOOT RIO MODE ENABLED! Skipping deep init checks.");
+      AlertBus.event(
+          AlertBus.Severity.WARNING, "FAST BOOT RIO MODE ENABLED! Skipping deep init checks.");
     }
 
     if (frc.robot.constants.TweakConstants.ENABLE_PIT_HEALTH_CHECK_ON_START) {
       // Pit health check requested
-      System.out.println("Pit Health Check routine requested on startup.");
+      AlertBus.event(AlertBus.Severity.INFO, "Pit Health Check routine requested on startup.");
     }
 
+    // Trigger polling is timed by markers bound around the RobotContainer bindings
+    LoopProfiler.configureScheduler();
+
     // Instantiate our RobotContainer.  This will perform all our button bindings, and put our
     // autonomous chooser on the dashboard.
-    m_robotContainer = new RobotContainer();
+    m_robotContainer = RobotStartup.time("RobotContainer", RobotContainer::new);
+
+    LoopProfiler.finishTriggerBindings();
+
+    // Every device must be configured before the fast loop or the first robot loop touches it
+    RobotStartup.join();
+
+    // Drives the simulation run that trains the CDS class list; see build.gradle
+    ClassDataSharing.startTrainingIfRequested();
+
+    // Starts only if a subsystem registered a fast control step
+    FastLoopExecutor.start();
+
+    // Sample the main thread's stack whenever a loop overruns
+    if (frc.robot.constants.TweakConstants.ENABLE_LOOP_WATCHDOG) {
+      LoopWatchdog.start(getPeriod());
+    }
+
+    // Log GC pauses and split overruns into GC-caused and code-caused
+    if (frc.robot.constants.TweakConstants.ENABLE_GC_MONITOR) {
+      GcMonitor.start(getPeriod());
+    }
+
+    // Replay runs without timing, so there is no schedule to measure against
+    if (Constants.CURRENT_MODE != Constants.Mode.REPLAY) {
+      LoopJitterMonitor.start(getPeriod());
+    }
+  }
+
+  /**
+   * In real-time loop mode, makes the main robot thread real-time once, before the first loop,
+   * instead of raising and lowering its priority around the scheduler every loop.
+   */
+  @Override
+  public void startCompetition() {
+    if (frc.robot.constants.TweakConstants.REALTIME_MAIN_LOOP) {
+      Threads.setCurrentThreadPriority(true, Constants.MAIN_LOOP_RT_PRIORITY);
+    }
+    super.startCompetition();
+  }
+
+  /**
+   * Brackets each full loop (mode periodic, robotPeriodic, dashboard updates) for the watchdog, the
+   * GC monitor, the start jitter monitor and the whole-loop profiler phase.
+   */
+  @Override
+  protected void loopFunc() {
+    LoopJitterMonitor.loopStarted();
+    long loopStart = System.nanoTime();
+    // Outside the watchdog bracket so the whole loop is not listed as its slowest phase
+    m_loopPhase.start();
+    LoopWatchdog.beginLoop();
+    super.loopFunc();
+    LoopWatchdog.endLoop();
+    m_loopPhase.stop();
+    GcMonitor.recordLoop(loopStart, System.nanoTime());
+    LoopJitterMonitor.loopEnded();
   }
 
   /**
@@ -120,39 +212,63 @@ public class Robot extends LoggedRobot {
    */
   @Override
   public void robotPeriodic() {
-    // Switch thread to high priority to improve loop timing
-    Threads.setCurrentThreadPriority(true, 99);
+    // Switch thread to high priority to improve loop timing, unless it is real-time already
+    if (!frc.robot.constants.TweakConstants.REALTIME_MAIN_LOOP) {
+      Threads.setCurrentThreadPriority(true, 99);
+    }
+
+    // Driver station and battery values for this loop; subsystems fill in the rest
+    RobotState.updateRobot();
+    // Latch controller inputs before the scheduler polls triggers
+    OperatorInput.update();
 
     // Runs the Scheduler. This is responsible for polling buttons, adding
     // newly-scheduled commands, running already-scheduled commands, removing
     // finished or interrupted commands, and running subsystem periodic() methods.
     // This must be called from the robot's periodic block in order for anything in
     // the Command-based framework to work.
+    m_schedulerPhase.start();
     CommandScheduler.getInstance().run();
+    m_schedulerPhase.stop();
 
     // This is a custom periodic function that runs for inter subsystem state updating
+    m_containerPhase.start();
     m_robotContainer.periodic();
+    m_containerPhase.stop();
 
     // Return to normal thread priority
-    Threads.setCurrentThreadPriority(false, 10);
-    if (m_robotContainer.enableAutoProfiling) {
-      System.out.println("WARNING, AUTO PROFILE IS ENABLED!");
+    if (!frc.robot.constants.TweakConstants.REALTIME_MAIN_LOOP) {
+      Threads.setCurrentThreadPriority(false, 10);
     }
+    m_autoProfilingAlert.set(m_robotContainer.enableAutoProfiling);
 
     // Check for Battery Sagging
     if (frc.robot.constants.TweakConstants.BATTERY_SAGGING_ALERT
         && !frc.robot.constants.TweakConstants.OVERRIDE_BATTERY_SENSE) {
-      if (edu.wpi.first.wpilibj.RobotController.getBatteryVoltage() < 11.0) {
-        System.out.println("WARNING: BATTERY VOLTAGE SAG DETECTED (< 11.0V)!");
-      }
+      m_batterySagAlert.set(RobotState.getBatteryVoltage() < 11.0);
     }
 
+    m_syncPhase.start();
     frc.robot.constants.SpeedConstants.syncNetworkTables();
+    m_syncPhase.stop();
+
+    LoopProfiler.periodic();
+    FastLoopExecutor.periodic();
+    JitWarmup.periodic();
+    SparkConfigService.periodic();
+    AlertBus.periodic();
+
+    // Flush every telemetry handle written this loop
+    m_telemetryPhase.start();
+    RobotTelemetry.periodic();
+    m_telemetryPhase.stop();
   }
 
   /** This function is called once each time the robot enters Disabled mode. */
   @Override
   public void disabledInit() {
+    RobotTelemetry.logCostReport();
+
     if (frc.robot.constants.TweakConstants.AUTO_HOME_TURRET_ON_DISABLE
         && m_robotContainer != null) {
       m_robotContainer.disabledInit();
@@ -160,7 +276,9 @@ public class Robot extends LoggedRobot {
   }
 
   @Override
-  public void disabledPeriodic() {}
+  public void disabledPeriodic() {
+    m_robotContainer.disabledPeriodic();
+  }
 
   /** This autonomous runs the autonomous command selected by your {@link RobotContainer} class. */
   @Override
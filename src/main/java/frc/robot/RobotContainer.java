@@ -3,12 +3,15 @@ package frc.robot;
 import com.pathplanner.lib.auto.NamedCommands;
 import com.pathplanner.lib.commands.PathPlannerAuto;
 import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj.Joystick;
+import edu.wpi.first.wpilibj.XboxController;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.InstantCommand;
 import edu.wpi.first.wpilibj2.command.RunCommand;
 import edu.wpi.first.wpilibj2.command.button.CommandJoystick;
 import edu.wpi.first.wpilibj2.command.button.CommandXboxController;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
 import edu.wpi.first.wpilibj2.command.sysid.SysIdRoutine;
 import frc.robot.commands.AimCommand;
 import frc.robot.commands.DefaultDrive;
@@ -23,6 +26,9 @@ import frc.robot.subsystems.FireControlSubsystem;
 import frc.robot.subsystems.IntakeSubsystem;
 import frc.robot.subsystems.LoaderSubsystem;
 import frc.robot.subsystems.TurretSubsystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
 import org.littletonrobotics.junction.networktables.LoggedDashboardChooser;
 
 /**
@@ -37,30 +43,59 @@ public class RobotContainer {
   private final CommandJoystick m_flightstick =
       new CommandJoystick(Constants.FLIGHTSTICK_USB_INDEX);
 
+  // Latched each loop by OperatorInput
+  private final DoubleSupplier m_leftY = OperatorInput.xboxAxis(XboxController.Axis.kLeftY);
+  private final DoubleSupplier m_rightY = OperatorInput.xboxAxis(XboxController.Axis.kRightY);
+  private final DoubleSupplier m_stickY =
+      OperatorInput.flightstickAxis(Joystick.kDefaultYChannel);
+
   // Initialize subsystems
-  private final DriveSubsystem m_driveSubsystem = new DriveSubsystem();
-  private final CameraSubsystem m_cameraSubsystem = new CameraSubsystem(m_driveSubsystem);
+  // Timed for the startup report; motor configuration inside each runs on the startup pool
+  private final DriveSubsystem m_driveSubsystem =
+      RobotStartup.time(
+          "DriveSubsystem",
+          () ->
+              new DriveSubsystem(
+                  switch (Constants.CURRENT_MODE) {
+                    case REAL -> new frc.robot.subsystems.DriveIOSparkMax();
+                    case SIM -> new frc.robot.subsystems.DriveIOSim();
+                    default -> new frc.robot.subsystems.DriveIO() {};
+                  }));
+  private final CameraSubsystem m_cameraSubsystem =
+      RobotStartup.time("CameraSubsystem", () -> new CameraSubsystem(m_driveSubsystem));
 
   private final TurretSubsystem m_turretSubsystem =
-      new TurretSubsystem(
-          Constants.CURRENT_MODE == Constants.Mode.REAL
-              ? new frc.robot.subsystems.TurretIOSparkMax()
-              : new frc.robot.subsystems.TurretIO() {});
+      RobotStartup.time(
+          "TurretSubsystem",
+          () ->
+              new TurretSubsystem(
+                  Constants.CURRENT_MODE == Constants.Mode.REAL
+                      ? new frc.robot.subsystems.TurretIOSparkMax()
+                      : new frc.robot.subsystems.TurretIO() {}));
   private final FireControlSubsystem m_fireSubsystem =
-      new FireControlSubsystem(
-          Constants.CURRENT_MODE == Constants.Mode.REAL
-              ? new frc.robot.subsystems.FireControlIOSparkMax()
-              : new frc.robot.subsystems.FireControlIO() {});
+      RobotStartup.time(
+          "FireControlSubsystem",
+          () ->
+              new FireControlSubsystem(
+                  Constants.CURRENT_MODE == Constants.Mode.REAL
+                      ? new frc.robot.subsystems.FireControlIOSparkMax()
+                      : new frc.robot.subsystems.FireControlIO() {}));
   private final IntakeSubsystem m_intakeSubsystem =
-      new IntakeSubsystem(
-          Constants.CURRENT_MODE == Constants.Mode.REAL
-              ? new frc.robot.subsystems.IntakeIOSparkMax()
-              : new frc.robot.subsystems.IntakeIO() {});
+      RobotStartup.time(
+          "IntakeSubsystem",
+          () ->
+              new IntakeSubsystem(
+                  Constants.CURRENT_MODE == Constants.Mode.REAL
+                      ? new frc.robot.subsystems.IntakeIOSparkMax()
+                      : new frc.robot.subsystems.IntakeIO() {}));
   private final LoaderSubsystem m_loaderSubsystem =
-      new LoaderSubsystem(
-          Constants.CURRENT_MODE == Constants.Mode.REAL
-              ? new frc.robot.subsystems.LoaderIOSparkMax()
-              : new frc.robot.subsystems.LoaderIO() {});
+      RobotStartup.time(
+          "LoaderSubsystem",
+          () ->
+              new LoaderSubsystem(
+                  Constants.CURRENT_MODE == Constants.Mode.REAL
+                      ? new frc.robot.subsystems.LoaderIOSparkMax()
+                      : new frc.robot.subsystems.LoaderIO() {}));
 
   // Initialize Commands
   private final DefaultDrive m_defaultDrive =
@@ -68,12 +103,15 @@ public class RobotContainer {
           m_driveSubsystem,
           this::getControllerLeftY,
           this::getControllerRightY,
-          () -> m_controller1.leftBumper().getAsBoolean());
+          OperatorInput.xboxButton(XboxController.Button.kLeftBumper));
   private final AimCommand m_aimCommand = new AimCommand(m_driveSubsystem, m_cameraSubsystem);
 
   // Init For Autonomous
   private LoggedDashboardChooser<String> autoDashboardChooser =
       new LoggedDashboardChooser<String>("AutoMode");
+  // Every value autoDashboardChooser can return
+  private final List<String> m_autoNames = new ArrayList<>();
+  private final AutoCommandCache m_autoCache = new AutoCommandCache(PathPlannerAuto::new);
 
   public final boolean enableAutoProfiling = false;
 
@@ -91,6 +129,18 @@ public class RobotContainer {
     // Setup on the fly path planning
     configureTeleopPaths();
 
+    // Turret and flywheel control run on the 200 Hz loop; replay has no hardware to drive
+    if (frc.robot.constants.TweakConstants.ENABLE_FAST_CONTROL_LOOPS
+        && Constants.CURRENT_MODE != Constants.Mode.REPLAY) {
+      m_turretSubsystem.enableFastControl();
+      m_fireSubsystem.enableFastControl();
+    }
+
+    // Compile the mid-match hot paths while we wait in disabled
+    if (frc.robot.constants.TweakConstants.ENABLE_JIT_WARMUP) {
+      JitWarmup.start(m_driveSubsystem);
+    }
+
     if (enableAutoProfiling) {
       // bindDriveSysIDCommands();
       bindDriveSysIDCommands();
@@ -101,31 +151,30 @@ public class RobotContainer {
   }
 
   private void bindCommands() {
+    // All bindings read the inputs latched by OperatorInput at the start of the loop
+    Trigger fireButton = OperatorInput.flightstickButton(Constants.JOYSTICK_DEFAULT_BUTTON);
+
     // Controller Bindings
-    m_controller1
-        .rightBumper()
+    OperatorInput.xboxButton(XboxController.Button.kRightBumper)
         .onTrue(new InstantCommand(() -> m_driveSubsystem.SwitchBrakemode()));
 
     // Intake
-    m_controller1
-        .a()
+    OperatorInput.xboxButton(XboxController.Button.kA)
         .and(
             () ->
                 !frc.robot.constants.TweakConstants.DISABLE_INTAKE_DURING_FIRE
-                    || !m_flightstick.button(Constants.JOYSTICK_DEFAULT_BUTTON).getAsBoolean())
+                    || !fireButton.getAsBoolean())
         .toggleOnTrue(
             new RunCommand(() -> m_intakeSubsystem.setIntakeSpeed(1.0), m_intakeSubsystem));
-    m_controller1
-        .leftTrigger()
+    OperatorInput.xboxAxisTrigger(XboxController.Axis.kLeftTrigger)
         .and(
             () ->
                 !frc.robot.constants.TweakConstants.DISABLE_INTAKE_DURING_FIRE
-                    || !m_flightstick.button(Constants.JOYSTICK_DEFAULT_BUTTON).getAsBoolean())
+                    || !fireButton.getAsBoolean())
         .whileTrue(new RunCommand(() -> m_intakeSubsystem.setIntakeSpeed(-1.0), m_intakeSubsystem));
 
     // Fire Override
-    m_controller1
-        .rightTrigger()
+    OperatorInput.xboxAxisTrigger(XboxController.Axis.kRightTrigger)
         .and(() -> !m_turretSubsystem.isUnwinding())
         .whileTrue(
             new edu.wpi.first.wpilibj2.command.StartEndCommand(
@@ -139,53 +188,60 @@ public class RobotContainer {
     // (Removed queued shooter mode override)
 
     // Turret Default Command (Bind to X-axis of flight stick)
+    DoubleSupplier stickX = OperatorInput.flightstickAxis(Joystick.kDefaultXChannel);
     m_turretSubsystem.setDefaultCommand(
         new RunCommand(
-            () -> m_turretSubsystem.setTurretSpeed(m_flightstick.getX()), m_turretSubsystem));
+            () -> m_turretSubsystem.setTurretSpeed(stickX.getAsDouble()), m_turretSubsystem));
 
     // Loader Default Command (Bind to Y-axis of flight stick)
+    DoubleSupplier stickY = OperatorInput.flightstickAxis(Joystick.kDefaultYChannel);
     m_loaderSubsystem.setDefaultCommand(
         new RunCommand(
-            () -> m_loaderSubsystem.setLoaderSpeed(m_flightstick.getY()), m_loaderSubsystem));
+            () -> m_loaderSubsystem.setLoaderSpeed(stickY.getAsDouble()), m_loaderSubsystem));
 
     // Fire Control Command (Bind to Trigger / Button 1 of flight stick)
     // Run at full speed (1.0) while trigger is held, rather than mapped to Y axis.
-    m_flightstick
-        .button(Constants.JOYSTICK_DEFAULT_BUTTON)
+    fireButton
         .and(() -> !m_turretSubsystem.isUnwinding())
         .and(
             () ->
                 frc.robot.constants.TweakConstants.ALLOW_FIRE_WHILE_MOVING
-                    || Math.abs(m_driveSubsystem.getSpeeds().vxMetersPerSecond) < 0.1)
-        .whileTrue(
-            new FireCommand(
-                m_fireSubsystem,
-                m_loaderSubsystem,
-                () -> 1.0,
-                m_flightstick.button(Constants.JOYSTICK_DEFAULT_BUTTON)));
+                    || Math.abs(RobotState.getVxMetersPerSecond()) < 0.1)
+        .whileTrue(new FireCommand(m_fireSubsystem, m_loaderSubsystem, () -> 1.0, fireButton));
 
     // Turret Preset Orientations (Buttons 6 - 11)
     // Values are placeholders for raw motor rotations until gear ratio is determined.
-    m_flightstick.button(6).onTrue(new SetTurretPositionCommand(m_turretSubsystem, -90.0));
-    m_flightstick.button(7).onTrue(new SetTurretPositionCommand(m_turretSubsystem, -45.0));
-    m_flightstick.button(8).onTrue(new SetTurretPositionCommand(m_turretSubsystem, 0.0));
-    m_flightstick.button(9).onTrue(new SetTurretPositionCommand(m_turretSubsystem, 45.0));
-    m_flightstick.button(10).onTrue(new SetTurretPositionCommand(m_turretSubsystem, 90.0));
-    m_flightstick.button(11).onTrue(new SetTurretPositionCommand(m_turretSubsystem, 180.0));
+    OperatorInput.flightstickButton(6)
+        .onTrue(new SetTurretPositionCommand(m_turretSubsystem, -90.0));
+    OperatorInput.flightstickButton(7)
+        .onTrue(new SetTurretPositionCommand(m_turretSubsystem, -45.0));
+    OperatorInput.flightstickButton(8).onTrue(new SetTurretPositionCommand(m_turretSubsystem, 0.0));
+    OperatorInput.flightstickButton(9)
+        .onTrue(new SetTurretPositionCommand(m_turretSubsystem, 45.0));
+    OperatorInput.flightstickButton(10)
+        .onTrue(new SetTurretPositionCommand(m_turretSubsystem, 90.0));
+    OperatorInput.flightstickButton(11)
+        .onTrue(new SetTurretPositionCommand(m_turretSubsystem, 180.0));
 
     // Intake System
     // Bind fuzzy slider (Flightstick Throttle axis) to automatically control the Intake.
     m_intakeSubsystem.setDefaultCommand(
-        new IntakeSliderCommand(m_intakeSubsystem, () -> m_flightstick.getThrottle()));
+        new IntakeSliderCommand(
+            m_intakeSubsystem, OperatorInput.flightstickAxis(Joystick.kDefaultThrottleChannel)));
 
     // Emergency Unjam (Button 12)
-    m_flightstick.button(12).onTrue(new UnjamIntakeCommand(m_intakeSubsystem));
+    OperatorInput.flightstickButton(12).onTrue(new UnjamIntakeCommand(m_intakeSubsystem));
   }
 
   public void disabledInit() {
     m_turretSubsystem.setTargetAngle(0.0);
   }
 
+  /** Resolves the selected auto while disabled, building it if the boot build failed. */
+  public void disabledPeriodic() {
+    m_autoCache.refresh(autoDashboardChooser.get());
+  }
+
   public edu.wpi.first.wpilibj2.command.Command getPitHealthCheckCommand() {
     return new frc.robot.commands.PitHealthCheckCommand(
         m_driveSubsystem, m_intakeSubsystem, m_fireSubsystem, m_loaderSubsystem, m_turretSubsystem);
@@ -193,8 +249,8 @@ public class RobotContainer {
 
   private void initializeAutonomous() {
     // Network Table Routine Options
-    autoDashboardChooser.addOption("DriveStraight", "DriveStraight");
-    autoDashboardChooser.addOption("Do Nothing", "DoNothing");
+    addAutoOption("DriveStraight", "DriveStraight");
+    addAutoOption("Do Nothing", "DoNothing");
     SmartDashboard.putData(autoDashboardChooser.getSendableChooser());
 
     // Named Commands
@@ -204,6 +260,14 @@ public class RobotContainer {
     NamedCommands.registerCommand(
         "BrakeCommand", new InstantCommand(() -> m_driveSubsystem.SetBrakemode()));
     NamedCommands.registerCommand("AimCommand", m_aimCommand);
+
+    // Build every auto now so autonomousInit only has to schedule one
+    m_autoCache.prebuild(m_autoNames);
+  }
+
+  private void addAutoOption(String label, String autoName) {
+    autoDashboardChooser.addOption(label, autoName);
+    m_autoNames.add(autoName);
   }
 
   private void bindDriveSysIDCommands() {
@@ -223,17 +287,17 @@ public class RobotContainer {
   }
 
   public double getControllerRightY() {
-    double y = -m_controller1.getRightY();
+    double y = -m_rightY.getAsDouble();
     return frc.robot.constants.TweakConstants.INVERT_DRIVE_CONTROLS ? -y : y;
   }
 
   public double getControllerLeftY() {
-    double y = -m_controller1.getLeftY();
+    double y = -m_leftY.getAsDouble();
     return frc.robot.constants.TweakConstants.INVERT_DRIVE_CONTROLS ? -y : y;
   }
 
   public double GetFlightStickY() {
-    return m_flightstick.getY();
+    return m_stickY.getAsDouble();
   }
 
   // for autonomous
@@ -257,8 +321,7 @@ public class RobotContainer {
    * @return the autonomous command to execute
    */
   public Command getAutonomousCommand() {
-    String autoName = autoDashboardChooser.get();
-    return new PathPlannerAuto(autoName);
+    return m_autoCache.get(autoDashboardChooser.get());
   }
 
   public void periodic() {
@@ -0,0 +1,164 @@
+package frc.robot;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import frc.robot.constants.Constants;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.littletonrobotics.junction.Logger;
+
+/**
+ * Times robot startup and runs independent startup work (device configuration, file loads) on a
+ * small thread pool. Everything submitted is joined by {@link #join()} before the first robot loop,
+ * so nothing configured here can race the loop. Timings are logged under "Startup/".
+ *
+ * <p>Tasks must only touch the device or file they were given; anything shared with the main thread
+ * should be handed back through the returned {@link Future}. When the pool is not running (after
+ * {@link #join()}, or in unit tests) tasks simply run inline on the caller.
+ */
+public final class RobotStartup {
+  private static ExecutorService pool;
+  private static final List<Future<?>> pending = new ArrayList<>();
+  // Phase name to duration in nanoseconds; written from pool threads
+  private static final Map<String, Long> timings = new ConcurrentHashMap<>();
+  // Phase names in the order they were started, for the report
+  private static final List<String> order = new ArrayList<>();
+  private static long startNanos;
+
+  private RobotStartup() {}
+
+  /** Starts the startup pool. Call first thing in the robot constructor. */
+  public static void start() {
+    if (pool != null) {
+      return;
+    }
+    startNanos = System.nanoTime();
+    AtomicInteger threadCount = new AtomicInteger();
+    pool =
+        Executors.newFixedThreadPool(
+            Constants.STARTUP_THREADS,
+            runnable -> {
+              Thread thread = new Thread(runnable, "Startup-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Runs a task on the startup pool, or inline when the pool is not running.
+   *
+   * @param name Phase name logged under "Startup/"
+   * @param task Independent work, such as configuring one device
+   * @return The task's result, to be collected with {@link #await(Future)}
+   */
+  public static synchronized <T> Future<T> submit(String name, Callable<T> task) {
+    Callable<T> timed =
+        () -> {
+          long start = System.nanoTime();
+          try {
+            return task.call();
+          } finally {
+            timings.put(name, System.nanoTime() - start);
+          }
+        };
+    order.add(name);
+    if (pool == null) {
+      try {
+        return CompletableFuture.completedFuture(timed.call());
+      } catch (Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+    Future<T> future = pool.submit(timed);
+    pending.add(future);
+    return future;
+  }
+
+  /**
+   * Times a step that has to run on the main thread, such as constructing a subsystem.
+   *
+   * @param name Phase name logged under "Startup/"
+   * @param step The step
+   * @return The step's result
+   */
+  public static <T> T time(String name, Supplier<T> step) {
+    long start = System.nanoTime();
+    try {
+      return step.get();
+    } finally {
+      synchronized (RobotStartup.class) {
+        order.add(name);
+      }
+      timings.put(name, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Waits for a submitted task and returns its result, rethrowing its failure.
+   *
+   * @param future Future returned by {@link #submit(String, Callable)}
+   * @return The task's result
+   */
+  public static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted during startup", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Startup task failed", e.getCause());
+    }
+  }
+
+  /**
+   * Waits for every submitted task, shuts the pool down and logs the startup timings. Call last
+   * thing in the robot constructor, after {@code Logger.start()}.
+   */
+  public static synchronized void join() {
+    if (pool == null) {
+      return;
+    }
+    for (Future<?> future : pending) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        // Report and carry on; a device that failed to configure should not stop the robot
+        DriverStation.reportError(
+            "Startup task failed: " + e.getCause(), e.getCause().getStackTrace());
+      }
+    }
+    pending.clear();
+    pool.shutdown();
+    pool = null;
+
+    StringBuilder report = new StringBuilder("Startup timings:");
+    for (String name : order) {
+      Long nanos = timings.get(name);
+      if (nanos != null) {
+        Logger.recordOutput("Startup/" + name + "Ms", nanos / 1e6);
+        report.append(String.format("%n  %-32s %8.1f ms", name, nanos / 1e6));
+      }
+    }
+    double constructorMillis = (System.nanoTime() - startNanos) / 1e6;
+    long jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    Logger.recordOutput("Startup/RobotConstructorMs", constructorMillis);
+    Logger.recordOutput("Startup/ReadyAfterJvmStartMs", jvmUptimeMillis);
+    report.append(
+        String.format(
+            "%n  Robot constructor %.1f ms, code ready %d ms after JVM start",
+            constructorMillis, jvmUptimeMillis));
+    AlertBus.event(AlertBus.Severity.INFO, report.toString());
+  }
+}
@@ -0,0 +1,147 @@
+package frc.robot;
+
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotController;
+import java.util.Optional;
+
+/**
+ * Snapshot of the robot's state, filled once per loop so triggers and commands can read it without
+ * allocating or going back to hardware.
+ *
+ * <p>{@link #updateRobot()} runs at the top of robotPeriodic and refreshes the driver station and
+ * battery values. Subsystems write their own values at the end of their periodic, which the
+ * scheduler runs before it polls triggers and executes commands, so consumers always see this
+ * loop's values. Everything here is main-thread only.
+ */
+public final class RobotState {
+  // Drive
+  private static Pose2d pose = Pose2d.kZero;
+  private static double poseX = 0.0;
+  private static double poseY = 0.0;
+  private static double headingRadians = 0.0;
+  private static double vxMetersPerSecond = 0.0;
+  private static double omegaRadiansPerSecond = 0.0;
+  // Reused for consumers that need a ChassisSpeeds object
+  private static final ChassisSpeeds chassisSpeeds = new ChassisSpeeds();
+
+  // Driver station
+  private static boolean allianceKnown = false;
+  private static boolean redAlliance = false;
+  private static double batteryVoltage = 12.0;
+  private static double matchTime = -1.0;
+
+  // Mechanisms
+  private static double turretAngleDegrees = 0.0;
+  private static double flywheelRPM = 0.0;
+
+  private RobotState() {}
+
+  /** Refreshes the alliance, battery voltage and match time. Called once per loop. */
+  public static void updateRobot() {
+    Optional<DriverStation.Alliance> alliance = DriverStation.getAlliance();
+    allianceKnown = alliance.isPresent();
+    redAlliance = allianceKnown && alliance.get() == DriverStation.Alliance.Red;
+    batteryVoltage = RobotController.getBatteryVoltage();
+    matchTime = DriverStation.getMatchTime();
+  }
+
+  /**
+   * Records the drivetrain state. Called by the drive subsystem after it updates odometry.
+   *
+   * @param estimatedPose Pose from the pose estimator
+   * @param speeds This loop's chassis speeds; copied, not kept
+   */
+  public static void updateDrive(Pose2d estimatedPose, ChassisSpeeds speeds) {
+    pose = estimatedPose;
+    poseX = estimatedPose.getX();
+    poseY = estimatedPose.getY();
+    headingRadians = estimatedPose.getRotation().getRadians();
+    vxMetersPerSecond = speeds.vxMetersPerSecond;
+    omegaRadiansPerSecond = speeds.omegaRadiansPerSecond;
+    chassisSpeeds.vxMetersPerSecond = vxMetersPerSecond;
+    chassisSpeeds.vyMetersPerSecond = 0.0;
+    chassisSpeeds.omegaRadiansPerSecond = omegaRadiansPerSecond;
+  }
+
+  /**
+   * Records the turret angle. Called by the turret subsystem each loop.
+   *
+   * @param degrees Robot-relative turret angle
+   */
+  public static void updateTurret(double degrees) {
+    turretAngleDegrees = degrees;
+  }
+
+  /**
+   * Records the flywheel speed. Called by the fire control subsystem each loop.
+   *
+   * @param rpm Measured flywheel speed
+   */
+  public static void updateFlywheel(double rpm) {
+    flywheelRPM = rpm;
+  }
+
+  /** Returns the estimated field pose as of this loop. */
+  public static Pose2d getPose() {
+    return pose;
+  }
+
+  public static double getPoseX() {
+    return poseX;
+  }
+
+  public static double getPoseY() {
+    return poseY;
+  }
+
+  public static double getHeadingRadians() {
+    return headingRadians;
+  }
+
+  /** Returns the forward speed in m/s. */
+  public static double getVxMetersPerSecond() {
+    return vxMetersPerSecond;
+  }
+
+  /** Returns the turn rate in rad/s, counterclockwise positive. */
+  public static double getOmegaRadiansPerSecond() {
+    return omegaRadiansPerSecond;
+  }
+
+  /**
+   * Returns this loop's chassis speeds. The same instance is refilled every loop, so callers must
+   * not modify it or hold on to it.
+   */
+  public static ChassisSpeeds getChassisSpeeds() {
+    return chassisSpeeds;
+  }
+
+  /** Returns whether the driver station has reported an alliance yet. */
+  public static boolean isAllianceKnown() {
+    return allianceKnown;
+  }
+
+  /** Returns whether we are on the red alliance; false while the alliance is unknown. */
+  public static boolean isRedAlliance() {
+    return redAlliance;
+  }
+
+  public static double getBatteryVoltage() {
+    return batteryVoltage;
+  }
+
+  /** Returns the match time in seconds, or -1 when it is not available. */
+  public static double getMatchTime() {
+    return matchTime;
+  }
+
+  public static double getTurretAngleDegrees() {
+    return turretAngleDegrees;
+  }
+
+  public static double getFlywheelRPM() {
+    return flywheelRPM;
+  }
+}
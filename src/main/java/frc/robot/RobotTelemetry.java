@@ -3,15 +3,815 @@ package frc.robot;
 import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Pose3d;
 import edu.wpi.first.math.geometry.Transform3d;
+import edu.wpi.first.networktables.BooleanPublisher;
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.StringPublisher;
+import edu.wpi.first.networktables.StructPublisher;
 import edu.wpi.first.util.sendable.Sendable;
+import edu.wpi.first.util.struct.Struct;
+import edu.wpi.first.util.struct.StructSerializable;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotController;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+import frc.robot.constants.Constants;
+import frc.robot.utils.SampleRingBuffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
 import org.littletonrobotics.junction.Logger;
+import org.littletonrobotics.junction.networktables.LoggedDashboardChooser;
 
 /**
  * Unified telemetry routing class. Replaces direct calls to SmartDashboard and Logger throughout
  * subsystems.
+ *
+ * <p>Subsystems should register their keys once at construction with {@link #numberHandle}, {@link
+ * #booleanHandle} or {@link #stringHandle} and write through the returned handle. A handle write is
+ * a plain field store; the cached NetworkTables publisher and the log output are updated once per
+ * loop by {@link #periodic()}. The string-key methods below remain as a compatibility shim that
+ * looks up (or lazily registers) the handle for the key.
+ *
+ * <p>A handle is only sent to NetworkTables when its value has changed since the last publish
+ * (beyond an optional deadband for numbers), or when {@link Constants#TELEMETRY_KEYFRAME_PERIOD}
+ * has passed since the last publish. The log records every change exactly, with no deadband or
+ * keyframes; it holds the last value, so a write that repeats it is skipped.
+ *
+ * <p>When the async publisher is started, the main loop only pushes primitive samples into a
+ * preallocated ring and a low priority thread drains them into NetworkTables. Log outputs are still
+ * recorded on the main thread because AdvantageKit's log table is not thread safe; AdvantageKit
+ * already writes the log file from its own receiver thread.
+ *
+ * <p>Every handle belongs to a {@link Tier} and may have a maximum publish rate. Only handles at or
+ * below the active tier are sent to NetworkTables, at no more than their maximum rate; every write
+ * is still logged, so replay does not depend on the tier picked during the match. The active tier
+ * is picked from the "Telemetry/Tier" chooser and is forced to {@link Tier#COMPETITION} whenever
+ * the FMS is attached.
+ *
+ * <p>Subsystems also publish one struct-serialized snapshot of their state per loop through a
+ * {@link StructHandle}, so dashboards can subscribe to a single atomic topic per subsystem.
+ *
+ * <p>Each handle also keeps cheap cost counters (publish count, estimated bytes, and time spent in
+ * NetworkTables and Logger calls). The most expensive keys are summarized under "Telemetry/Cost"
+ * and {@link #logCostReport()} dumps the full table.
  */
 public class RobotTelemetry {
+  private static final NetworkTable smartDashboardTable =
+      NetworkTableInstance.getDefault().getTable("SmartDashboard");
+
+  private static final Map<String, Handle> handlesByKey = new HashMap<>();
+  private static final List<Handle> handles = new ArrayList<>();
+  // Copy of handles indexed by id, replaced on registration so the publisher thread can read it
+  private static volatile Handle[] handlesById = new Handle[0];
+
+  /** Telemetry verbosity tiers, from always-on to most verbose. */
+  public enum Tier {
+    /** Needed by the drive team during a match. */
+    COMPETITION,
+    /** Diagnostics for the pit and practice field. */
+    PIT,
+    /** Development values, never needed in a match. */
+    DEBUG
+  }
+
+  private static LoggedDashboardChooser<Tier> tierChooser;
+  private static Tier activeTier = Tier.DEBUG;
+  private static StringHandle activeTierTelemetry;
+
+  // Cost accounting
+  // Rough per-record framing for an NT4 message or a WPILOG record, excluding the payload
+  private static final int RECORD_OVERHEAD_BYTES = 24;
+  private static final Handle[] topCostHandles = new Handle[Constants.TELEMETRY_COST_TOP_N];
+  private static final StringBuilder costSummaryBuilder = new StringBuilder();
+  private static double lastCostSummaryTime = 0.0;
+  private static NumberHandle loopCostTelemetry;
+  private static StringHandle topCostTelemetry;
+
+  // Async publishing (null until started)
+  private static SampleRingBuffer asyncRing;
+  private static Thread asyncThread;
+  private static NumberHandle queueDepthTelemetry;
+  private static NumberHandle droppedSamplesTelemetry;
+
+  /** A registered telemetry key with a cached NetworkTables publisher. */
+  public abstract static class Handle {
+    protected final String m_key;
+    protected final int m_id;
+    // Set by a write; m_dirty stays set while the NetworkTables publish is held by the rate limit
+    protected boolean m_dirty = false;
+    protected boolean m_logPending = false;
+    protected boolean m_logged = false;
+    protected boolean m_published = false;
+    protected double m_lastPublishTime = 0.0;
+    protected Tier m_tier = Tier.COMPETITION;
+    protected double m_minPublishPeriod = 0.0;
+
+    // Cost counters (main thread, except m_asyncNanos which only the publisher thread writes)
+    protected long m_publishCount = 0;
+    protected long m_estimatedBytes = 0;
+    protected long m_costNanos = 0;
+    protected long m_windowNanos = 0;
+    protected volatile long m_asyncNanos = 0;
+
+    private Handle(String key, int id) {
+      m_key = key;
+      m_id = id;
+    }
+
+    /** Returns the key this handle publishes to. */
+    public String getKey() {
+      return m_key;
+    }
+
+    /** Returns the tier this handle is published in. */
+    public Tier getTier() {
+      return m_tier;
+    }
+
+    void setTier(Tier tier) {
+      m_tier = tier;
+    }
+
+    void setMaxRate(double hz) {
+      m_minPublishPeriod = hz > 0.0 ? 1.0 / hz : 0.0;
+    }
+
+    /** Returns true if the latest value differs from the last published value. */
+    abstract boolean hasChanged();
+
+    /** Returns true if the latest value differs at all from the last logged value. */
+    abstract boolean hasLogChanged();
+
+    /** Records the latest value to the log. Main thread only. */
+    abstract void recordLog();
+
+    /** Remembers the latest value as the one last sent to NetworkTables. Main thread only. */
+    abstract void markPublished();
+
+    /** Returns the latest value packed into 64 bits. */
+    abstract long rawValue();
+
+    /** Returns the size of the latest value on the wire, in bytes. */
+    abstract int payloadBytes();
+
+    /** Returns the latest value if it is an object, otherwise null. */
+    Object refValue() {
+      return null;
+    }
+
+    /**
+     * Returns true if {@link #publishNetworkTables} can run on the publisher thread. Handles whose
+     * value is a mutable object reused by the caller must publish on the main thread.
+     */
+    boolean isAsyncSafe() {
+      return true;
+    }
+
+    /**
+     * Writes a value to NetworkTables. May be called from the publisher thread.
+     *
+     * @param value Value packed by {@link #rawValue()}
+     * @param ref Value returned by {@link #refValue()}
+     * @param timestamp FPGA timestamp of the sample in microseconds
+     */
+    abstract void publishNetworkTables(long value, Object ref, long timestamp);
+  }
+
+  /** Handle for a numeric key. */
+  public static final class NumberHandle extends Handle {
+    private final DoublePublisher m_publisher;
+    private double m_value;
+    private double m_publishedValue;
+    private double m_loggedValue;
+    private double m_deadband = 0.0;
+
+    private NumberHandle(String key, int id) {
+      super(key, id);
+      m_publisher = smartDashboardTable.getDoubleTopic(key).publish();
+    }
+
+    /**
+     * Suppresses NetworkTables publishing until the value moves more than the deadband away from
+     * the last published value. The log still records every change.
+     *
+     * @param deadband Minimum change worth publishing, in the units of the value
+     * @return This handle, for chaining at registration
+     */
+    public NumberHandle withDeadband(double deadband) {
+      m_deadband = Math.abs(deadband);
+      return this;
+    }
+
+    /** Sends this handle to NetworkTables only when the active tier includes the given tier. */
+    public NumberHandle withTier(Tier tier) {
+      setTier(tier);
+      return this;
+    }
+
+    /** Limits how often this handle is sent to NetworkTables, in Hz. */
+    public NumberHandle withMaxRate(double hz) {
+      setMaxRate(hz);
+      return this;
+    }
+
+    /** Sets the value to publish on the next telemetry flush. */
+    public void set(double value) {
+      m_value = value;
+      m_dirty = true;
+      m_logPending = true;
+    }
+
+    @Override
+    boolean hasChanged() {
+      if (Double.isNaN(m_value) || Double.isNaN(m_publishedValue)) {
+        return Double.isNaN(m_value) != Double.isNaN(m_publishedValue);
+      }
+      return Math.abs(m_value - m_publishedValue) > m_deadband;
+    }
+
+    @Override
+    boolean hasLogChanged() {
+      return Double.doubleToLongBits(m_value) != Double.doubleToLongBits(m_loggedValue);
+    }
+
+    @Override
+    void recordLog() {
+      m_loggedValue = m_value;
+      Logger.recordOutput(m_key, m_value);
+    }
+
+    @Override
+    void markPublished() {
+      m_publishedValue = m_value;
+    }
+
+    @Override
+    long rawValue() {
+      return Double.doubleToRawLongBits(m_value);
+    }
+
+    @Override
+    int payloadBytes() {
+      return Double.BYTES;
+    }
+
+    @Override
+    void publishNetworkTables(long value, Object ref, long timestamp) {
+      m_publisher.set(Double.longBitsToDouble(value), timestamp);
+    }
+  }
+
+  /** Handle for a boolean key. */
+  public static final class BooleanHandle extends Handle {
+    private final BooleanPublisher m_publisher;
+    private boolean m_value;
+    private boolean m_publishedValue;
+    private boolean m_loggedValue;
+
+    private BooleanHandle(String key, int id) {
+      super(key, id);
+      m_publisher = smartDashboardTable.getBooleanTopic(key).publish();
+    }
+
+    /** Sends this handle to NetworkTables only when the active tier includes the given tier. */
+    public BooleanHandle withTier(Tier tier) {
+      setTier(tier);
+      return this;
+    }
+
+    /** Limits how often this handle is sent to NetworkTables, in Hz. */
+    public BooleanHandle withMaxRate(double hz) {
+      setMaxRate(hz);
+      return this;
+    }
+
+    /** Sets the value to publish on the next telemetry flush. */
+    public void set(boolean value) {
+      m_value = value;
+      m_dirty = true;
+      m_logPending = true;
+    }
+
+    @Override
+    boolean hasChanged() {
+      return m_value != m_publishedValue;
+    }
+
+    @Override
+    boolean hasLogChanged() {
+      return m_value != m_loggedValue;
+    }
+
+    @Override
+    void recordLog() {
+      m_loggedValue = m_value;
+      Logger.recordOutput(m_key, m_value);
+    }
+
+    @Override
+    void markPublished() {
+      m_publishedValue = m_value;
+    }
+
+    @Override
+    long rawValue() {
+      return m_value ? 1 : 0;
+    }
+
+    @Override
+    int payloadBytes() {
+      return 1;
+    }
+
+    @Override
+    void publishNetworkTables(long value, Object ref, long timestamp) {
+      m_publisher.set(value != 0, timestamp);
+    }
+  }
+
+  /** Handle for a string key. */
+  public static final class StringHandle extends Handle {
+    private final StringPublisher m_publisher;
+    private String m_value = "";
+    private String m_publishedValue = "";
+    private String m_loggedValue = "";
+
+    private StringHandle(String key, int id) {
+      super(key, id);
+      m_publisher = smartDashboardTable.getStringTopic(key).publish();
+    }
+
+    /** Sends this handle to NetworkTables only when the active tier includes the given tier. */
+    public StringHandle withTier(Tier tier) {
+      setTier(tier);
+      return this;
+    }
+
+    /** Limits how often this handle is sent to NetworkTables, in Hz. */
+    public StringHandle withMaxRate(double hz) {
+      setMaxRate(hz);
+      return this;
+    }
+
+    /** Sets the value to publish on the next telemetry flush. */
+    public void set(String value) {
+      m_value = value == null ? "" : value;
+      m_dirty = true;
+      m_logPending = true;
+    }
+
+    @Override
+    boolean hasChanged() {
+      return !m_value.equals(m_publishedValue);
+    }
+
+    @Override
+    boolean hasLogChanged() {
+      return !m_value.equals(m_loggedValue);
+    }
+
+    @Override
+    void recordLog() {
+      m_loggedValue = m_value;
+      Logger.recordOutput(m_key, m_value);
+    }
+
+    @Override
+    void markPublished() {
+      m_publishedValue = m_value;
+    }
+
+    @Override
+    long rawValue() {
+      return 0;
+    }
+
+    @Override
+    int payloadBytes() {
+      return m_value.length();
+    }
+
+    @Override
+    Object refValue() {
+      return m_value;
+    }
+
+    @Override
+    void publishNetworkTables(long value, Object ref, long timestamp) {
+      m_publisher.set((String) ref, timestamp);
+    }
+  }
+
+  /**
+   * Handle for a struct-serialized snapshot. The snapshot is packed during the flush, so callers
+   * refill the same instance every loop and call {@link #set} to mark it for publishing. Like the
+   * scalar handles, a snapshot whose packed bytes match the last ones sent or logged is skipped,
+   * apart from NetworkTables keyframes.
+   */
+  public static final class StructHandle<T extends StructSerializable> extends Handle {
+    private final Struct<T> m_struct;
+    private final StructPublisher<T> m_publisher;
+    private T m_value;
+    // Scratch buffer for the latest snapshot, and the bytes last sent and last logged
+    private final ByteBuffer m_packed;
+    private final byte[] m_publishedBytes;
+    private final byte[] m_loggedBytes;
+
+    private StructHandle(String key, int id, Struct<T> struct) {
+      super(key, id);
+      m_struct = struct;
+      m_publisher = smartDashboardTable.getStructTopic(key, struct).publish();
+      m_packed = ByteBuffer.allocate(struct.getSize()).order(ByteOrder.LITTLE_ENDIAN);
+      m_publishedBytes = new byte[struct.getSize()];
+      m_loggedBytes = new byte[struct.getSize()];
+    }
+
+    /** Sends this handle to NetworkTables only when the active tier includes the given tier. */
+    public StructHandle<T> withTier(Tier tier) {
+      setTier(tier);
+      return this;
+    }
+
+    /** Limits how often this handle is sent to NetworkTables, in Hz. */
+    public StructHandle<T> withMaxRate(double hz) {
+      setMaxRate(hz);
+      return this;
+    }
+
+    /** Sets the snapshot to publish on the next telemetry flush. */
+    public void set(T value) {
+      m_value = value;
+      m_dirty = m_value != null;
+      m_logPending = m_dirty;
+    }
+
+    private byte[] packLatest() {
+      m_packed.clear();
+      m_struct.pack(m_packed, m_value);
+      return m_packed.array();
+    }
+
+    @Override
+    boolean hasChanged() {
+      return !Arrays.equals(packLatest(), m_publishedBytes);
+    }
+
+    @Override
+    boolean hasLogChanged() {
+      return !Arrays.equals(packLatest(), m_loggedBytes);
+    }
+
+    @Override
+    void recordLog() {
+      System.arraycopy(packLatest(), 0, m_loggedBytes, 0, m_loggedBytes.length);
+      Logger.recordOutput(m_key, m_value);
+    }
+
+    @Override
+    void markPublished() {
+      System.arraycopy(packLatest(), 0, m_publishedBytes, 0, m_publishedBytes.length);
+    }
+
+    @Override
+    long rawValue() {
+      return 0;
+    }
+
+    @Override
+    int payloadBytes() {
+      return m_struct.getSize();
+    }
+
+    @Override
+    boolean isAsyncSafe() {
+      return false;
+    }
+
+    @Override
+    void publishNetworkTables(long value, Object ref, long timestamp) {
+      m_publisher.set(m_value, timestamp);
+    }
+  }
+
+  /**
+   * Registers (or returns the existing) numeric handle for a key.
+   *
+   * @param key SmartDashboard / log key
+   * @return The handle to write through
+   */
+  public static NumberHandle numberHandle(String key) {
+    return register(key, NumberHandle.class);
+  }
+
+  /**
+   * Registers (or returns the existing) numeric handle for a key with a NetworkTables deadband.
+   *
+   * @param key SmartDashboard / log key
+   * @param deadband Minimum change worth publishing, in the units of the value
+   * @return The handle to write through
+   */
+  public static NumberHandle numberHandle(String key, double deadband) {
+    return numberHandle(key).withDeadband(deadband);
+  }
+
+  /**
+   * Registers (or returns the existing) boolean handle for a key.
+   *
+   * @param key SmartDashboard / log key
+   * @return The handle to write through
+   */
+  public static BooleanHandle booleanHandle(String key) {
+    return register(key, BooleanHandle.class);
+  }
+
+  /**
+   * Registers (or returns the existing) string handle for a key.
+   *
+   * @param key SmartDashboard / log key
+   * @return The handle to write through
+   */
+  public static StringHandle stringHandle(String key) {
+    return register(key, StringHandle.class);
+  }
+
+  /**
+   * Registers (or returns the existing) struct snapshot handle for a key.
+   *
+   * @param key SmartDashboard / log key
+   * @param struct Serializer for the snapshot type
+   * @return The handle to write through
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends StructSerializable> StructHandle<T> structHandle(
+      String key, Struct<T> struct) {
+    Handle handle = handlesByKey.get(key);
+    if (handle == null) {
+      handle = new StructHandle<>(key, handles.size(), struct);
+      add(handle);
+    } else if (!(handle instanceof StructHandle<?> structHandle)
+        || structHandle.m_struct.getTypeClass() != struct.getTypeClass()) {
+      throw new IllegalArgumentException(
+          "Telemetry key \"" + key + "\" is already registered as a " + handle.getClass());
+    }
+    return (StructHandle<T>) handle;
+  }
+
+  private static <T extends Handle> T register(String key, Class<T> type) {
+    Handle handle = handlesByKey.get(key);
+    if (handle == null) {
+      int id = handles.size();
+      if (type == NumberHandle.class) {
+        handle = new NumberHandle(key, id);
+      } else if (type == BooleanHandle.class) {
+        handle = new BooleanHandle(key, id);
+      } else {
+        handle = new StringHandle(key, id);
+      }
+      add(handle);
+    } else if (!type.isInstance(handle)) {
+      throw new IllegalArgumentException(
+          "Telemetry key \"" + key + "\" is already registered as a " + handle.getClass());
+    }
+    return type.cast(handle);
+  }
+
+  private static void add(Handle handle) {
+    handlesByKey.put(handle.m_key, handle);
+    handles.add(handle);
+    Handle[] byId = Arrays.copyOf(handlesById, handle.m_id + 1);
+    byId[handle.m_id] = handle;
+    handlesById = byId;
+  }
+
+  /**
+   * Puts the "Telemetry/Tier" chooser on the dashboard so the active tier can be changed at
+   * runtime.
+   */
+  public static void configureTierChooser() {
+    if (tierChooser != null) {
+      return;
+    }
+    tierChooser = new LoggedDashboardChooser<>("Telemetry/Tier");
+    tierChooser.addDefaultOption("Debug", Tier.DEBUG);
+    tierChooser.addOption("Pit", Tier.PIT);
+    tierChooser.addOption("Competition", Tier.COMPETITION);
+    activeTierTelemetry = stringHandle("Telemetry/ActiveTier");
+  }
+
+  /**
+   * Returns true if values in the given tier are currently published. Use this to skip building
+   * debug-only values that are logged directly rather than through a handle.
+   */
+  public static boolean isTierActive(Tier tier) {
+    return tier.ordinal() <= activeTier.ordinal();
+  }
+
+  private static void updateActiveTier() {
+    if (DriverStation.isFMSAttached()) {
+      activeTier = Tier.COMPETITION;
+    } else if (tierChooser != null) {
+      Tier selected = tierChooser.get();
+      activeTier = selected != null ? selected : Tier.DEBUG;
+    }
+    if (activeTierTelemetry != null) {
+      activeTierTelemetry.set(activeTier.name());
+    }
+  }
+
+  /**
+   * Starts the background NetworkTables publisher. After this call {@link #periodic()} only queues
+   * samples for NetworkTables instead of sending them inline.
+   */
+  public static void startAsyncPublisher() {
+    if (asyncThread != null) {
+      return;
+    }
+    queueDepthTelemetry = numberHandle("Telemetry/QueueDepth");
+    droppedSamplesTelemetry = numberHandle("Telemetry/DroppedSamples");
+    asyncRing = new SampleRingBuffer(Constants.TELEMETRY_QUEUE_CAPACITY);
+    asyncThread = new Thread(RobotTelemetry::runAsyncPublisher, "TelemetryPublisher");
+    asyncThread.setDaemon(true);
+    asyncThread.setPriority(Thread.MIN_PRIORITY);
+    asyncThread.start();
+  }
+
+  private static void runAsyncPublisher() {
+    SampleRingBuffer.SampleConsumer sender =
+        (id, timestamp, value, ref) -> {
+          Handle handle = handlesById[id];
+          long start = System.nanoTime();
+          handle.publishNetworkTables(value, ref, timestamp);
+          handle.m_asyncNanos += System.nanoTime() - start;
+        };
+    while (!Thread.currentThread().isInterrupted()) {
+      if (asyncRing.drainTo(sender) == 0) {
+        // Woken early by periodic() once a loop's samples are queued
+        LockSupport.parkNanos(5_000_000);
+      }
+    }
+  }
+
+  /**
+   * Logs every handle whose value changed since the last call, then sends those in the active tier
+   * to NetworkTables if their value moved past the deadband or their keyframe is due, subject to
+   * their maximum rate. Called once per loop at the end of {@link Robot#robotPeriodic()}.
+   */
+  public static void periodic() {
+    long timestamp = RobotController.getFPGATime();
+    double now = timestamp / 1e6;
+    updateActiveTier();
+    long loopNanos = 0;
+    SampleRingBuffer ring = asyncRing;
+    if (ring != null) {
+      queueDepthTelemetry.set(ring.size());
+      droppedSamplesTelemetry.set(ring.getDroppedCount());
+    }
+
+    for (int i = 0; i < handles.size(); i++) {
+      Handle handle = handles.get(i);
+      if (!handle.m_dirty) {
+        continue;
+      }
+      long start = System.nanoTime();
+      if (handle.m_logPending) {
+        handle.m_logPending = false;
+        if (!handle.m_logged || handle.hasLogChanged()) {
+          handle.recordLog();
+          handle.m_logged = true;
+          handle.m_estimatedBytes += RECORD_OVERHEAD_BYTES + handle.payloadBytes();
+        }
+      }
+      publishNetworkTables(handle, ring, timestamp, now);
+      long elapsed = System.nanoTime() - start;
+      handle.m_costNanos += elapsed;
+      handle.m_windowNanos += elapsed;
+      loopNanos += elapsed;
+    }
+
+    if (loopCostTelemetry == null) {
+      loopCostTelemetry = numberHandle("Telemetry/Cost/LoopMicros").withTier(Tier.PIT);
+      topCostTelemetry = stringHandle("Telemetry/Cost/TopKeys").withTier(Tier.PIT);
+    }
+    loopCostTelemetry.set(loopNanos / 1e3);
+    updateCostSummary(now);
+
+    if (ring != null) {
+      LockSupport.unpark(asyncThread);
+    }
+  }
+
+  private static void publishNetworkTables(
+      Handle handle, SampleRingBuffer ring, long timestamp, double now) {
+    if (!isTierActive(handle.m_tier)) {
+      handle.m_dirty = false;
+      return;
+    }
+    if (handle.m_published && now - handle.m_lastPublishTime < handle.m_minPublishPeriod) {
+      // Stay dirty so the latest value goes out once the rate limit allows
+      return;
+    }
+    if (handle.m_published
+        && !handle.hasChanged()
+        && now - handle.m_lastPublishTime < Constants.TELEMETRY_KEYFRAME_PERIOD) {
+      handle.m_dirty = false;
+      return;
+    }
+    if (ring != null && handle.isAsyncSafe()) {
+      if (!ring.offer(handle.m_id, timestamp, handle.rawValue(), handle.refValue())) {
+        // Ring full: stay dirty and retry next loop rather than treat the value as sent
+        return;
+      }
+    } else {
+      handle.publishNetworkTables(handle.rawValue(), handle.refValue(), timestamp);
+    }
+    handle.m_dirty = false;
+    handle.markPublished();
+    handle.m_published = true;
+    handle.m_lastPublishTime = now;
+    handle.m_publishCount++;
+    handle.m_estimatedBytes += RECORD_OVERHEAD_BYTES + handle.payloadBytes();
+  }
+
+  /**
+   * Publishes the keys that cost the most main-loop time since the last summary, as "key
+   * microseconds-per-second" pairs.
+   */
+  private static void updateCostSummary(double now) {
+    double window = now - lastCostSummaryTime;
+    if (window < Constants.TELEMETRY_COST_REPORT_PERIOD) {
+      return;
+    }
+    lastCostSummaryTime = now;
+
+    // Insertion into a small fixed array keeps this allocation free
+    Arrays.fill(topCostHandles, null);
+    for (int i = 0; i < handles.size(); i++) {
+      Handle handle = handles.get(i);
+      for (int slot = 0; slot < topCostHandles.length; slot++) {
+        Handle current = topCostHandles[slot];
+        if (current == null || handle.m_windowNanos > current.m_windowNanos) {
+          System.arraycopy(
+              topCostHandles, slot, topCostHandles, slot + 1, topCostHandles.length - slot - 1);
+          topCostHandles[slot] = handle;
+          break;
+        }
+      }
+    }
+
+    costSummaryBuilder.setLength(0);
+    for (Handle handle : topCostHandles) {
+      if (handle == null || handle.m_windowNanos == 0) {
+        break;
+      }
+      if (costSummaryBuilder.length() > 0) {
+        costSummaryBuilder.append(", ");
+      }
+      costSummaryBuilder
+          .append(handle.m_key)
+          .append(' ')
+          .append(Math.round(handle.m_windowNanos / 1e3 / window))
+          .append("us/s");
+    }
+    topCostTelemetry.set(costSummaryBuilder.toString());
+
+    for (int i = 0; i < handles.size(); i++) {
+      handles.get(i).m_windowNanos = 0;
+    }
+  }
+
+  /** Prints and logs the full per-key cost table, most expensive first. Called on disable. */
+  public static void logCostReport() {
+    List<Handle> sorted = new ArrayList<>(handles);
+    sorted.sort(Comparator.comparingLong((Handle handle) -> handle.m_costNanos).reversed());
+
+    StringBuilder report = new StringBuilder();
+    report.append(
+        String.format(
+            "%-40s %-12s %10s %12s %12s %12s%n",
+            "Key", "Tier", "Publishes", "Est. Bytes", "Loop us", "Async us"));
+    for (Handle handle : sorted) {
+      report.append(
+          String.format(
+              "%-40s %-12s %10d %12d %12.1f %12.1f%n",
+              handle.m_key,
+              handle.m_tier,
+              handle.m_publishCount,
+              handle.m_estimatedBytes,
+              handle.m_costNanos / 1e3,
+              handle.m_asyncNanos / 1e3));
+    }
+    String text = report.toString();
+    Logger.recordOutput("Telemetry/Cost/Report", text);
+    // The table is several KB; let the alert printer thread write it to the console
+    AlertBus.event(AlertBus.Severity.INFO, "Telemetry cost report:\n" + text);
+  }
 
   public static void putData(String key, Sendable data) {
     SmartDashboard.putData(key, data);
@@ -22,18 +822,15 @@ public class RobotTelemetry {
   }
 
   public static void putNumber(String key, double value) {
-    SmartDashboard.putNumber(key, value);
-    Logger.recordOutput(key, value);
+    numberHandle(key).set(value);
   }
 
   public static void putBoolean(String key, boolean value) {
-    SmartDashboard.putBoolean(key, value);
-    Logger.recordOutput(key, value);
+    booleanHandle(key).set(value);
   }
 
   public static void putString(String key, String value) {
-    SmartDashboard.putString(key, value);
-    Logger.recordOutput(key, value);
+    stringHandle(key).set(value);
   }
 
   public static void recordOutput(String key, double value) {
@@ -0,0 +1,176 @@
+package frc.robot;
+
+import com.revrobotics.PersistMode;
+import com.revrobotics.REVLibError;
+import com.revrobotics.ResetMode;
+import com.revrobotics.spark.SparkBase;
+import com.revrobotics.spark.config.SparkBaseConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Applies motor controller settings that change while the robot runs, such as brake or coast, on a
+ * background thread, so the CAN round-trips never stall the main loop.
+ *
+ * <p>Settings go out without a reset and with {@link PersistMode#kNoPersistParameters}, so a toggle
+ * only sends the parameters in its config and never writes controller flash; the persisted startup
+ * configuration returns on the next power cycle. Each {@link Batch} configures its devices back to
+ * back. A batch still queued when a newer one with the same name arrives is skipped, so a burst of
+ * toggles only sends the last.
+ *
+ * <p>Batches are built and submitted from the main thread, and their configs must not change once
+ * submitted. {@link #periodic()} logs finished batches under "SparkConfig/" and raises an alert
+ * event for any that failed.
+ */
+public final class SparkConfigService {
+  /** Progress of a submitted batch. */
+  public enum Status {
+    PENDING,
+    DONE,
+    FAILED,
+    SUPERSEDED
+  }
+
+  /** Devices to configure together. */
+  public static final class Batch {
+    private final String m_name;
+    private final List<SparkBase> m_devices = new ArrayList<>();
+    private final List<SparkBaseConfig> m_configs = new ArrayList<>();
+    private long m_submitNanos;
+    // Written by the config thread
+    private volatile long m_finishNanos;
+    private volatile String m_error = "";
+    private volatile Status m_status = Status.PENDING;
+
+    private Batch(String name) {
+      m_name = name;
+    }
+
+    /**
+     * Adds a device to the batch.
+     *
+     * @param device Controller to configure
+     * @param config Settings to send; only the parameters set in it are changed
+     * @return This batch, for chaining
+     */
+    public Batch add(SparkBase device, SparkBaseConfig config) {
+      m_devices.add(device);
+      m_configs.add(config);
+      return this;
+    }
+
+    public Status getStatus() {
+      return m_status;
+    }
+
+    /** Returns whether the batch has finished, successfully or not. */
+    public boolean isDone() {
+      return m_status != Status.PENDING;
+    }
+
+    private void finish(Status status, String error) {
+      m_finishNanos = System.nanoTime();
+      m_error = error;
+      // Written last, so a reader that sees the status also sees the rest
+      m_status = status;
+    }
+  }
+
+  private static final BlockingQueue<Batch> queue = new LinkedBlockingQueue<>();
+  // Newest batch per name; the config thread skips any batch that is no longer the newest
+  private static final Map<String, Batch> latest = new ConcurrentHashMap<>();
+  // Submitted batches not yet reported; main thread only
+  private static final List<Batch> inFlight = new ArrayList<>();
+  private static Thread worker;
+
+  private SparkConfigService() {}
+
+  /**
+   * Starts a new batch.
+   *
+   * @param name Logged under "SparkConfig/&lt;name&gt;"; a newer batch with the same name replaces
+   *     a queued one
+   */
+  public static Batch batch(String name) {
+    return new Batch(name);
+  }
+
+  /**
+   * Queues a batch for the config thread and returns immediately.
+   *
+   * @param batch Batch to apply
+   * @return The batch, to poll for completion
+   */
+  public static Batch submit(Batch batch) {
+    if (worker == null) {
+      worker = new Thread(SparkConfigService::run, "SparkConfig");
+      worker.setDaemon(true);
+      worker.start();
+    }
+    batch.m_submitNanos = System.nanoTime();
+    latest.put(batch.m_name, batch);
+    inFlight.add(batch);
+    queue.add(batch);
+    return batch;
+  }
+
+  private static void run() {
+    try {
+      while (true) {
+        Batch batch = queue.take();
+        if (latest.get(batch.m_name) != batch) {
+          batch.finish(Status.SUPERSEDED, "");
+          continue;
+        }
+        String error = "";
+        for (int i = 0; i < batch.m_devices.size(); i++) {
+          SparkBase device = batch.m_devices.get(i);
+          REVLibError result;
+          try {
+            result =
+                device.configure(
+                    batch.m_configs.get(i),
+                    ResetMode.kNoResetSafeParameters,
+                    PersistMode.kNoPersistParameters);
+          } catch (RuntimeException e) {
+            result = REVLibError.kError;
+          }
+          if (result != REVLibError.kOk && error.isEmpty()) {
+            error = "CAN ID " + device.getDeviceId() + " returned " + result;
+          }
+        }
+        batch.finish(error.isEmpty() ? Status.DONE : Status.FAILED, error);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Logs batches that finished since the last call. Called once per loop. */
+  public static void periodic() {
+    int i = 0;
+    while (i < inFlight.size()) {
+      Batch batch = inFlight.get(i);
+      if (!batch.isDone()) {
+        i++;
+        continue;
+      }
+      inFlight.remove(i);
+      String key = "SparkConfig/" + batch.m_name;
+      RobotTelemetry.recordOutput(key + "/Status", batch.m_status.toString());
+      if (batch.m_status == Status.SUPERSEDED) {
+        continue;
+      }
+      RobotTelemetry.recordOutput(
+          key + "/LatencyMs", (batch.m_finishNanos - batch.m_submitNanos) / 1e6);
+      if (batch.m_status == Status.FAILED) {
+        AlertBus.event(
+            AlertBus.Severity.ERROR, batch.m_name + " configuration failed: " + batch.m_error);
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@ import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 import edu.wpi.first.wpilibj2.command.Commands;
 import edu.wpi.first.wpilibj2.command.DeferredCommand;
 import edu.wpi.first.wpilibj2.command.SequentialCommandGroup;
+import frc.robot.RobotState;
 import frc.robot.RobotTelemetry;
 import frc.robot.constants.CameraConstants;
 import frc.robot.subsystems.CameraSubsystem;
@@ -84,15 +85,18 @@ public class AimCommand extends SequentialCommandGroup {
                   new Transform3d(
                       new Translation3d(distance_x, distance_y, 0), new Rotation3d(0, 0, yaw));
 
-              RobotTelemetry.recordOutput("AimCamToTargetTransform", cameraToTarget);
+              boolean debugTelemetry = RobotTelemetry.isTierActive(RobotTelemetry.Tier.DEBUG);
+              if (debugTelemetry) {
+                RobotTelemetry.recordOutput("AimCamToTargetTransform", cameraToTarget);
+              }
 
               Transform3d targetOffset = cameraToTarget.plus(targetingOffset);
 
               if (frc.robot.constants.TweakConstants.ENABLE_AI_TARGET_PREDICTION) {
-                edu.wpi.first.math.kinematics.ChassisSpeeds speeds = d_subsystem.getSpeeds();
                 double timeOfFlight = distance / 15.0; // Approx 15 m/s ball velocity
-                double robotMovementX = speeds.vxMetersPerSecond * timeOfFlight;
-                double robotMovementY = speeds.vyMetersPerSecond * timeOfFlight;
+                // A differential drive has no sideways velocity
+                double robotMovementX = RobotState.getVxMetersPerSecond() * timeOfFlight;
+                double robotMovementY = 0.0;
 
                 // Because the projectile inherits the robot's momentum, we must aim in the
                 // inverse direction of travel to correctly lead the target.
@@ -103,14 +107,14 @@ public class AimCommand extends SequentialCommandGroup {
                             new Rotation3d()));
               }
 
-              RobotTelemetry.recordOutput("AimTargetRelRobotPose", targetOffset);
-
-              Pose3d robotPose = new Pose3d(d_subsystem.getPose());
+              Pose3d robotPose = new Pose3d(RobotState.getPose());
               Pose3d robotToTarget = robotPose.plus(targetOffset);
-              RobotTelemetry.recordOutput("AimNavRelPose", robotToTarget);
-
               Pose2d newTargetPose = robotToTarget.toPose2d();
-              RobotTelemetry.recordOutput("AimNav2dPose", newTargetPose);
+              if (debugTelemetry) {
+                RobotTelemetry.recordOutput("AimTargetRelRobotPose", targetOffset);
+                RobotTelemetry.recordOutput("AimNavRelPose", robotToTarget);
+                RobotTelemetry.recordOutput("AimNav2dPose", newTargetPose);
+              }
 
               Rotation2d newRotation = new Rotation2d(newTargetPose.getRotation().getDegrees());
 
@@ -3,11 +3,18 @@
 package frc.robot.commands;
 
 import edu.wpi.first.math.filter.SlewRateLimiter;
+import edu.wpi.first.math.kinematics.DifferentialDriveWheelSpeeds;
+import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj2.command.Command;
+import frc.robot.DriveConstants;
+import frc.robot.OperatorInput;
+import frc.robot.RobotTelemetry;
 import frc.robot.constants.Constants;
+import frc.robot.constants.TweakConstants;
 import frc.robot.subsystems.DriveSubsystem;
 import frc.robot.utils.HelperFunctions;
 import java.util.function.DoubleSupplier;
+import org.littletonrobotics.junction.Logger;
 
 /** The default drive command that uses the drive subsystem. */
 public class DefaultDrive extends Command {
@@ -19,6 +26,14 @@ public class DefaultDrive extends Command {
   private final SlewRateLimiter m_leftLimiter = new SlewRateLimiter(4.0);
   private final SlewRateLimiter m_rightLimiter = new SlewRateLimiter(4.0);
 
+  // Closed-loop acceleration limits, in m/s per second
+  private final SlewRateLimiter m_leftVelocityLimiter =
+      new SlewRateLimiter(DriveConstants.kMaxTeleopAccelerationMetersPerSecondSquared);
+  private final SlewRateLimiter m_rightVelocityLimiter =
+      new SlewRateLimiter(DriveConstants.kMaxTeleopAccelerationMetersPerSecondSquared);
+  private double m_lastLeftVelocity = 0.0;
+  private double m_lastRightVelocity = 0.0;
+
   /**
    * Creates a new DefaultDrive command.
    *
@@ -43,30 +58,56 @@ public class DefaultDrive extends Command {
 
   // Called when the command is initially scheduled.
   @Override
-  public void initialize() {}
+  public void initialize() {
+    // Start the velocity ramps from where the wheels are, so taking over mid-motion does not jolt
+    DifferentialDriveWheelSpeeds wheelSpeeds = m_driveSubsystem.getWheelSpeeds();
+    m_lastLeftVelocity = wheelSpeeds.leftMetersPerSecond;
+    m_lastRightVelocity = wheelSpeeds.rightMetersPerSecond;
+    m_leftVelocityLimiter.reset(m_lastLeftVelocity);
+    m_rightVelocityLimiter.reset(m_lastRightVelocity);
+  }
 
   // Called every time the scheduler runs while the command is scheduled.
   @Override
   public void execute() {
     // we include a limit on the drivers speed for safety.
     m_driveSubsystem.setReducedSpeed(false);
-    if (!HelperFunctions.inDeadzone(m_left_y.getAsDouble(), Constants.CONTROLLER_DEAD_ZONE)
-        || !HelperFunctions.inDeadzone(m_right_y.getAsDouble(), Constants.CONTROLLER_DEAD_ZONE)) {
+    if (TweakConstants.CLOSED_LOOP_TELEOP_DRIVE) {
+      driveClosedLoop();
+    } else {
+      driveOpenLoop();
+    }
+    // Time from reading the sticks to commanding the motors, within the robot code. The replay
+    // clock does not line up with the logged read time, so there is nothing to measure in replay
+    if (!Logger.hasReplaySource()) {
+      RobotTelemetry.recordOutput("OperatorInput/DriveLatencyMicros", OperatorInput.getAgeMicros());
+    }
+  }
 
-      double speedMultiplier = 1.0;
-      if (frc.robot.constants.TweakConstants.LIMIT_DRIVE_SPEED_TO_75
-          && !frc.robot.constants.TweakConstants.BOOST_MODE_OVERRIDE) {
-        speedMultiplier = 0.75;
-      }
-      if (frc.robot.constants.TweakConstants.SLOW_MODE_MODIFIER_ACTIVE
-          && m_precision_mode.getAsBoolean()) {
-        speedMultiplier = 0.3;
-      }
+  private boolean sticksInDeadzone() {
+    return HelperFunctions.inDeadzone(m_left_y.getAsDouble(), Constants.CONTROLLER_DEAD_ZONE)
+        && HelperFunctions.inDeadzone(m_right_y.getAsDouble(), Constants.CONTROLLER_DEAD_ZONE);
+  }
+
+  private double getSpeedMultiplier() {
+    double speedMultiplier = 1.0;
+    if (TweakConstants.LIMIT_DRIVE_SPEED_TO_75 && !TweakConstants.BOOST_MODE_OVERRIDE) {
+      speedMultiplier = 0.75;
+    }
+    if (TweakConstants.SLOW_MODE_MODIFIER_ACTIVE && m_precision_mode.getAsBoolean()) {
+      speedMultiplier = 0.3;
+    }
+    return speedMultiplier;
+  }
 
+  // Duty-cycle tank drive, shaped by SpeedConstants
+  private void driveOpenLoop() {
+    if (!sticksInDeadzone()) {
+      double speedMultiplier = getSpeedMultiplier();
       double leftInput = m_left_y.getAsDouble() * speedMultiplier;
       double rightInput = m_right_y.getAsDouble() * speedMultiplier;
 
-      if (frc.robot.constants.TweakConstants.KINEMATIC_DRIVE_SMOOTHING) {
+      if (TweakConstants.KINEMATIC_DRIVE_SMOOTHING) {
         leftInput = m_leftLimiter.calculate(leftInput);
         rightInput = m_rightLimiter.calculate(rightInput);
       } else {
@@ -84,6 +125,40 @@ public class DefaultDrive extends Command {
     }
   }
 
+  // Sticks map to wheel speeds in m/s, held by the SparkMax velocity loop, so top speed and
+  // acceleration do not change as the battery sags.
+  private void driveClosedLoop() {
+    double leftTarget = 0.0;
+    double rightTarget = 0.0;
+    if (!sticksInDeadzone()) {
+      double maxSpeed = DriveConstants.kMaxTeleopSpeedMetersPerSecond * getSpeedMultiplier();
+      leftTarget = m_left_y.getAsDouble() * maxSpeed;
+      rightTarget = m_right_y.getAsDouble() * maxSpeed;
+    }
+
+    double leftAccel = 0.0;
+    double rightAccel = 0.0;
+    if (TweakConstants.KINEMATIC_DRIVE_SMOOTHING) {
+      // Ramp to zero as well, so letting go of the sticks decelerates within the same limit
+      double left = m_leftVelocityLimiter.calculate(leftTarget);
+      double right = m_rightVelocityLimiter.calculate(rightTarget);
+      leftAccel = (left - m_lastLeftVelocity) / TimedRobot.kDefaultPeriod;
+      rightAccel = (right - m_lastRightVelocity) / TimedRobot.kDefaultPeriod;
+      leftTarget = left;
+      rightTarget = right;
+    } else {
+      // A step setpoint has no meaningful acceleration, so leave the kA term out
+      m_leftVelocityLimiter.reset(leftTarget);
+      m_rightVelocityLimiter.reset(rightTarget);
+    }
+    m_lastLeftVelocity = leftTarget;
+    m_lastRightVelocity = rightTarget;
+
+    m_driveSubsystem.setWheelVelocities(leftTarget, rightTarget, leftAccel, rightAccel);
+    RobotTelemetry.recordOutput("Drive/LeftVelocitySetpoint", leftTarget);
+    RobotTelemetry.recordOutput("Drive/RightVelocitySetpoint", rightTarget);
+  }
+
   // Called once the command ends or is interrupted.
   @Override
   public void end(boolean interrupted) {
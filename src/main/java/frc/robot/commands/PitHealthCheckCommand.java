@@ -2,7 +2,7 @@ package frc.robot.commands;
 
 import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj2.command.Command;
-import frc.robot.RobotTelemetry;
+import frc.robot.AlertBus;
 import frc.robot.subsystems.*;
 
 public class PitHealthCheckCommand extends Command {
@@ -15,6 +15,8 @@ public class PitHealthCheckCommand extends Command {
   private final Timer m_timer = new Timer();
   private int m_stage = 0;
   private StringBuilder m_report = new StringBuilder();
+  private final AlertBus.Alert m_alert =
+      AlertBus.alert("PitHealthCheck", AlertBus.Severity.INFO, "");
 
   public PitHealthCheckCommand(
       DriveSubsystem drive,
@@ -36,7 +38,8 @@ public class PitHealthCheckCommand extends Command {
     m_timer.restart();
     m_report.setLength(0);
     m_report.append("Starting Pit Verification Sweep...\n");
-    RobotTelemetry.putString("Alerts/PitHealthCheck", "RUNNING SWEEP - PLEASE STAND CLEAR");
+    m_alert.setText("RUNNING SWEEP - PLEASE STAND CLEAR");
+    m_alert.set(true);
   }
 
   @Override
@@ -89,9 +92,11 @@ public class PitHealthCheckCommand extends Command {
     m_fire.stop();
     m_turret.setTurretSpeed(0);
     if (!interrupted) {
-      RobotTelemetry.putString("Alerts/PitHealthCheck", "PASSED: " + m_report.toString());
+      m_alert.setText("PASSED: " + m_report.toString());
+      AlertBus.event(AlertBus.Severity.INFO, "Pit health check passed");
     } else {
-      RobotTelemetry.putString("Alerts/PitHealthCheck", "INTERRUPTED: Safety Override triggered.");
+      m_alert.setText("INTERRUPTED: Safety Override triggered.");
+      AlertBus.event(AlertBus.Severity.WARNING, "Pit health check interrupted");
     }
   }
 
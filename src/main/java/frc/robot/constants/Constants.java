@@ -67,4 +67,97 @@ public final class Constants {
 
   // Turret Subsystem
   public static final double TURRET_GEAR_RATIO = 10.0;
+
+  // Telemetry
+  // Unchanged telemetry values are re-sent at least this often (seconds)
+  public static final double TELEMETRY_KEYFRAME_PERIOD = 2.0;
+  // Samples buffered for the async telemetry publisher thread
+  public static final int TELEMETRY_QUEUE_CAPACITY = 1024;
+  // How often the most expensive telemetry keys are summarized (seconds), and how many are listed
+  public static final double TELEMETRY_COST_REPORT_PERIOD = 5.0;
+  public static final int TELEMETRY_COST_TOP_N = 5;
+
+  // Loop profiler
+  // Durations kept per phase for the rolling percentiles (samples)
+  public static final int PROFILER_WINDOW_SIZE = 250;
+  // How often phase percentiles are published (seconds)
+  public static final double PROFILER_REPORT_PERIOD = 1.0;
+  // Bytes one robot loop may allocate before "Alerts/AllocationBudget" is raised
+  public static final long ALLOCATION_BUDGET_PER_LOOP = 16 * 1024;
+  // Bytes Drive/periodic may allocate; what remains is the pose estimator's own history entries
+  public static final long DRIVE_ALLOCATION_BUDGET_PER_LOOP = 4 * 1024;
+
+  // Loop watchdog
+  // Stack frames kept in an overrun report
+  public static final int LOOP_WATCHDOG_STACK_DEPTH = 25;
+  // Overrun reports are always logged, but printed to the console at most this often (seconds)
+  public static final double LOOP_WATCHDOG_PRINT_PERIOD = 5.0;
+  // RT priority of the watchdog thread in real-time loop mode; above the main loop so it can
+  // still sample an overrunning loop
+  public static final int LOOP_WATCHDOG_RT_PRIORITY = 50;
+
+  // Loop timing
+  // RT priority the main loop thread keeps for its whole life in real-time loop mode
+  public static final int MAIN_LOOP_RT_PRIORITY = 40;
+  // Upper bounds of the loop start jitter histogram buckets (microseconds)
+  public static final long[] LOOP_JITTER_BUCKETS_MICROS = {50, 100, 250, 500, 1000, 2000, 5000};
+
+  // JIT warm-up
+  // Passes over the warmed paths before warm-up may end; above HotSpot's C2 compile threshold
+  public static final int JIT_WARMUP_MIN_ITERATIONS = 5000;
+  // Warm-up always ends after this many passes
+  public static final int JIT_WARMUP_MAX_ITERATIONS = 20000;
+
+  // Alerts
+  // An alert that keeps being raised is printed to the console at most this often (seconds)
+  public static final double ALERT_PRINT_PERIOD = 5.0;
+  // Console lines waiting for the printer thread; more are dropped
+  public static final int ALERT_PRINT_QUEUE_CAPACITY = 64;
+  // Battery must stay under the sag threshold this long before the alert is raised (seconds)
+  public static final double BATTERY_SAG_DEBOUNCE = 0.5;
+
+  // Startup
+  // Threads for concurrent device configuration and file loads at boot
+  public static final int STARTUP_THREADS = 4;
+
+  // Fast control loop
+  // Period of the turret and flywheel control loop (seconds)
+  public static final double FAST_LOOP_PERIOD = 0.005;
+  // RT priority of the fast loop thread. With REALTIME_MAIN_LOOP this is above the main loop, so
+  // control steps preempt it. Otherwise robotPeriodic runs at RT priority 99, above this thread,
+  // and control steps only preempt the main thread between robotPeriodic calls
+  public static final int FAST_LOOP_RT_PRIORITY = 45;
+
+  // Odometry sampling
+  // Period of the drivetrain odometry sampling thread (seconds); 200 Hz
+  public static final double ODOMETRY_PERIOD = 0.005;
+  // RT priority of the odometry thread; same as the fast control loop, so it preempts the main loop
+  // in REALTIME_MAIN_LOOP mode and can be held off by robotPeriodic (priority 99) otherwise
+  public static final int ODOMETRY_RT_PRIORITY = 45;
+  // Samples queued between the odometry thread and the main loop
+  public static final int ODOMETRY_QUEUE_CAPACITY = 64;
+  // Most samples one main loop hands to the pose estimator; the rest wait for the next loop
+  public static final int ODOMETRY_MAX_SAMPLES_PER_LOOP = 20;
+
+  // Traction control
+  // Front and back encoders on one side disagreeing by more than this means slip (m/s)
+  public static final double TRACTION_ENCODER_MISMATCH = 0.3;
+  // Wheel-implied turn rate disagreeing with the gyro by more than this means slip (rad/s)
+  public static final double TRACTION_YAW_RATE_MISMATCH = 0.5;
+  // Wheels speeding up or slowing down faster than this have broken free; about 1.5 g (m/s^2)
+  public static final double TRACTION_MAX_WHEEL_ACCELERATION = 15.0;
+  // A side stays marked as slipping this long after the last detection (seconds)
+  public static final double TRACTION_SLIP_HOLD_TIME = 0.25;
+  // Fraction of the commanded output a slipping side keeps
+  public static final double TRACTION_SLIP_OUTPUT_SCALE = 0.6;
+  // How fast the output comes back once grip returns (fraction of full output per second)
+  public static final double TRACTION_RECOVERY_RATE = 2.0;
+  // Average drive motor current above which we are pushing something (amps)
+  public static final double TRACTION_PUSHING_CURRENT = 50.0;
+  // Pushing while the robot moves slower than this means we are held (m/s)
+  public static final double TRACTION_PUSHING_SPEED = 0.3;
+  // Vision standard deviation (meters and radians) normally; WPILib's default
+  public static final double VISION_STD_DEV = 0.1;
+  // Vision standard deviation while slipping, so vision outweighs odometry
+  public static final double TRACTION_SLIP_VISION_STD_DEV = 0.02;
 }
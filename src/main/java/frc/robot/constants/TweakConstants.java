@@ -68,4 +68,26 @@ public final class TweakConstants {
   public static boolean ENABLE_AI_TARGET_PREDICTION = false;
   // KINEMATIC_DRIVE_SMOOTHING
   public static boolean KINEMATIC_DRIVE_SMOOTHING = false;
+  // CLOSED_LOOP_TELEOP_DRIVE
+  public static boolean CLOSED_LOOP_TELEOP_DRIVE = false;
+  // ENABLE_TRACTION_CONTROL
+  public static boolean ENABLE_TRACTION_CONTROL = false;
+
+  // --- Loop Performance ---
+  // ASYNC_TELEMETRY_PUBLISHING
+  public static boolean ASYNC_TELEMETRY_PUBLISHING = true;
+  // ENABLE_LOOP_PROFILER
+  public static boolean ENABLE_LOOP_PROFILER = true;
+  // ENABLE_LOOP_WATCHDOG
+  public static boolean ENABLE_LOOP_WATCHDOG = true;
+  // ENABLE_ALLOCATION_METER
+  public static boolean ENABLE_ALLOCATION_METER = false;
+  // ENABLE_GC_MONITOR
+  public static boolean ENABLE_GC_MONITOR = true;
+  // ENABLE_FAST_CONTROL_LOOPS
+  public static boolean ENABLE_FAST_CONTROL_LOOPS = true;
+  // REALTIME_MAIN_LOOP
+  public static boolean REALTIME_MAIN_LOOP = false;
+  // ENABLE_JIT_WARMUP
+  public static boolean ENABLE_JIT_WARMUP = true;
 }
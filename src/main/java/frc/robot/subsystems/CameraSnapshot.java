@@ -0,0 +1,39 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import frc.robot.utils.SnapshotStruct;
+
+/** Struct-serialized camera health, published once per loop by {@link CameraSubsystem}. */
+public class CameraSnapshot implements StructSerializable {
+  /** Capture timestamp of the newest targeting camera frame. */
+  public double lastResultTimestampSeconds;
+  /** True when pose camera 1 is connected. */
+  public boolean poseCamera1Connected;
+  /** True when pose camera 2 is connected. */
+  public boolean poseCamera2Connected;
+  /** True when the targeting camera is connected. */
+  public boolean targetingCamera1Connected;
+  /** True when the newest targeting frame has a target. */
+  public boolean hasTarget;
+
+  /** Struct serializer for {@link CameraSnapshot}. */
+  public static final SnapshotStruct<CameraSnapshot> struct =
+      new SnapshotStruct<>(CameraSnapshot.class, CameraSnapshot::new)
+          .addDouble(
+              "lastResultTimestampSeconds",
+              s -> s.lastResultTimestampSeconds,
+              (s, v) -> s.lastResultTimestampSeconds = v)
+          .addBoolean(
+              "poseCamera1Connected",
+              s -> s.poseCamera1Connected,
+              (s, v) -> s.poseCamera1Connected = v)
+          .addBoolean(
+              "poseCamera2Connected",
+              s -> s.poseCamera2Connected,
+              (s, v) -> s.poseCamera2Connected = v)
+          .addBoolean(
+              "targetingCamera1Connected",
+              s -> s.targetingCamera1Connected,
+              (s, v) -> s.targetingCamera1Connected = v)
+          .addBoolean("hasTarget", s -> s.hasTarget, (s, v) -> s.hasTarget = v);
+}
@@ -6,14 +6,19 @@ package frc.robot.subsystems;
 
 import edu.wpi.first.apriltag.AprilTagFieldLayout;
 import edu.wpi.first.apriltag.AprilTagFields;
+import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Pose3d;
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.geometry.Rotation3d;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.LoopProfiler;
 import frc.robot.Robot;
+import frc.robot.RobotStartup;
+import frc.robot.RobotState;
 import frc.robot.RobotTelemetry;
 import frc.robot.constants.CameraConstants;
 import java.util.Optional;
+import java.util.concurrent.Future;
 import org.photonvision.EstimatedRobotPose;
 import org.photonvision.PhotonCamera;
 import org.photonvision.PhotonPoseEstimator;
@@ -28,6 +33,8 @@ import org.photonvision.targeting.PhotonPipelineResult;
 public class CameraSubsystem extends SubsystemBase {
   private final DriveSubsystem m_driveSubsystem;
   public final AprilTagFieldLayout aprilTagFieldLayout;
+  // Field layout parse started early on the startup pool, if preloadFieldLayout() was called
+  private static Future<AprilTagFieldLayout> fieldLayoutLoad;
   private final PhotonCamera poseCamera1;
   private final PhotonCamera poseCamera2;
   private final PhotonCamera targetingCamera1;
@@ -59,13 +66,47 @@ public class CameraSubsystem extends SubsystemBase {
   private PhotonCameraSim poseCamera2Sim;
   private PhotonCameraSim targetingCamera1Sim;
 
+  // Telemetry
+  private final RobotTelemetry.NumberHandle m_latencyTelemetry =
+      RobotTelemetry.numberHandle("Front Camera Latency")
+          .withTier(RobotTelemetry.Tier.PIT)
+          .withMaxRate(5.0);
+  private final RobotTelemetry.BooleanHandle m_poseCamera1ConnectedTelemetry =
+      RobotTelemetry.booleanHandle("poseCamera1Connected");
+  private final RobotTelemetry.BooleanHandle m_poseCamera2ConnectedTelemetry =
+      RobotTelemetry.booleanHandle("poseCamera2Connected");
+  private final RobotTelemetry.BooleanHandle m_targetingCamera1ConnectedTelemetry =
+      RobotTelemetry.booleanHandle("TargetingCamera1Connnected");
+  private final CameraSnapshot m_snapshot = new CameraSnapshot();
+  private final RobotTelemetry.StructHandle<CameraSnapshot> m_snapshotTelemetry =
+      RobotTelemetry.structHandle("Snapshot/Camera", CameraSnapshot.struct);
+
+  // Profiling
+  private final LoopProfiler.Phase m_periodicPhase = LoopProfiler.phase("Camera/periodic");
+  private final LoopProfiler.Phase m_simulationPhase =
+      LoopProfiler.phase("Camera/simulationPeriodic");
+
   private boolean multiModeUsed = false;
   private static final boolean cameraPoseEnabled = false;
 
+  /**
+   * Starts parsing the AprilTag field layout on the startup pool, so it is ready by the time the
+   * subsystem is constructed. Optional; the constructor loads it itself otherwise.
+   */
+  public static void preloadFieldLayout() {
+    fieldLayoutLoad =
+        RobotStartup.submit(
+            "Camera/loadFieldLayout",
+            () -> AprilTagFieldLayout.loadField(AprilTagFields.kDefaultField));
+  }
+
   /** Creates a new CameraSubsystem. */
   public CameraSubsystem(DriveSubsystem d_subsystem) {
     m_driveSubsystem = d_subsystem;
-    aprilTagFieldLayout = AprilTagFieldLayout.loadField(AprilTagFields.kDefaultField);
+    aprilTagFieldLayout =
+        fieldLayoutLoad != null
+            ? RobotStartup.await(fieldLayoutLoad)
+            : AprilTagFieldLayout.loadField(AprilTagFields.kDefaultField);
 
     poseCamera1 = new PhotonCamera(CameraConstants.POSE_CAMERA1.NAME);
     poseCamera2 = new PhotonCamera(CameraConstants.POSE_CAMERA2.NAME);
@@ -130,7 +171,8 @@ public class CameraSubsystem extends SubsystemBase {
       // Camera processed a new frame since last
       // Get the last one in the list.
       var result = results.get(results.size() - 1);
-      RobotTelemetry.putNumber("Front Camera Latency", result.getTimestampSeconds());
+      m_latencyTelemetry.set(result.getTimestampSeconds());
+      m_snapshot.lastResultTimestampSeconds = result.getTimestampSeconds();
       if (result.hasTargets()) {
         // select last result with targets
         return Optional.of(result);
@@ -183,6 +225,7 @@ public class CameraSubsystem extends SubsystemBase {
 
   @Override
   public void periodic() {
+    m_periodicPhase.start();
     // This method will be called once per scheduler run
     // update the pipeline result for targeting cameras
     targetingCamera1Result = getPipelineResults(targetingCamera1);
@@ -192,18 +235,27 @@ public class CameraSubsystem extends SubsystemBase {
     updateGlobalPose(poseCamera1, poseCamera1PoseEstimator, poseCamera1.getName());
     updateGlobalPose(poseCamera2, poseCamera2PoseEstimator, poseCamera2.getName());
     // Update dashboard
-    RobotTelemetry.putBoolean("poseCamera1Connected", poseCamera1.isConnected());
-    RobotTelemetry.putBoolean("poseCamera2Connected", poseCamera2.isConnected());
-    RobotTelemetry.putBoolean("TargetingCamera1Connnected", targetingCamera1.isConnected());
+    m_snapshot.poseCamera1Connected = poseCamera1.isConnected();
+    m_snapshot.poseCamera2Connected = poseCamera2.isConnected();
+    m_snapshot.targetingCamera1Connected = targetingCamera1.isConnected();
+    m_snapshot.hasTarget = targetingCamera1Result.isPresent();
+    m_poseCamera1ConnectedTelemetry.set(m_snapshot.poseCamera1Connected);
+    m_poseCamera2ConnectedTelemetry.set(m_snapshot.poseCamera2Connected);
+    m_targetingCamera1ConnectedTelemetry.set(m_snapshot.targetingCamera1Connected);
+    m_snapshotTelemetry.set(m_snapshot);
+    m_periodicPhase.stop();
   }
 
   private void updateState() {}
 
   @Override
   public void simulationPeriodic() {
+    m_simulationPhase.start();
     // This method will be called once per scheduler run during simulation
     // Update with the simulated drivetrain pose. This should be called every loop in simulation.
-    poseVisionSim.update(m_driveSubsystem.getPose());
-    targetingVisionSim.update(m_driveSubsystem.getPose());
+    Pose2d pose = RobotState.getPose();
+    poseVisionSim.update(pose);
+    targetingVisionSim.update(pose);
+    m_simulationPhase.stop();
   }
 }
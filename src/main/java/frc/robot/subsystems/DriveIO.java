@@ -0,0 +1,74 @@
+package frc.robot.subsystems;
+
+import frc.robot.constants.Constants;
+import org.littletonrobotics.junction.AutoLog;
+
+public interface DriveIO {
+  @AutoLog
+  public static class DriveIOInputs {
+    // Leader (back) encoders, used for odometry and closed-loop control
+    public double leftPositionMeters = 0.0;
+    public double leftVelocityMetersPerSec = 0.0;
+    public double rightPositionMeters = 0.0;
+    public double rightVelocityMetersPerSec = 0.0;
+    // Follower (front) encoders
+    public double leftFollowerPositionMeters = 0.0;
+    public double leftFollowerVelocityMetersPerSec = 0.0;
+    public double rightFollowerPositionMeters = 0.0;
+    public double rightFollowerVelocityMetersPerSec = 0.0;
+
+    public double leftAppliedVolts = 0.0;
+    public double rightAppliedVolts = 0.0;
+    // {leader, follower}
+    public double[] leftCurrentAmps = new double[2];
+    public double[] rightCurrentAmps = new double[2];
+    public double[] leftTempCelsius = new double[2];
+    public double[] rightTempCelsius = new double[2];
+
+    public boolean gyroConnected = false;
+    public boolean gyroCalibrating = false;
+    // Continuous angle, clockwise positive as the navX reports it
+    public double gyroAngleDegrees = 0.0;
+    public double gyroYawDegrees = 0.0;
+    public double gyroPitchDegrees = 0.0;
+    public double gyroRateDegreesPerSec = 0.0;
+
+    // Idle mode last asked for, the one the controllers last confirmed, and whether a change is
+    // still being sent
+    public boolean brakeModeRequested = false;
+    public boolean brakeModeApplied = false;
+    public boolean idleModeChangePending = false;
+
+    // High-rate odometry samples taken since the last loop; only the first odometrySampleCount
+    // entries of each array are valid
+    public int odometrySampleCount = 0;
+    public double[] odometryTimestamps = new double[Constants.ODOMETRY_MAX_SAMPLES_PER_LOOP];
+    public double[] odometryLeftPositionsMeters =
+        new double[Constants.ODOMETRY_MAX_SAMPLES_PER_LOOP];
+    public double[] odometryRightPositionsMeters =
+        new double[Constants.ODOMETRY_MAX_SAMPLES_PER_LOOP];
+    public double[] odometryGyroAnglesDegrees = new double[Constants.ODOMETRY_MAX_SAMPLES_PER_LOOP];
+    public long odometryDroppedSamples = 0;
+  }
+
+  public default void updateInputs(DriveIOInputs inputs) {}
+
+  /** Open-loop output for each side, -1 to 1. */
+  public default void setDutyCycle(double left, double right) {}
+
+  public default void setVoltage(double leftVolts, double rightVolts) {}
+
+  /** Closed-loop wheel velocity with an added feedforward voltage. */
+  public default void setVelocity(
+      double leftMetersPerSec, double rightMetersPerSec, double leftFFVolts, double rightFFVolts) {}
+
+  /** Closed-loop position, in meters of encoder travel. */
+  public default void setPosition(double leftMeters, double rightMeters) {}
+
+  /** Switches idle mode without blocking; the change shows up in the inputs once applied. */
+  public default void setBrakeMode(boolean brake) {}
+
+  public default void resetEncoders() {}
+
+  public default void resetGyro() {}
+}
@@ -0,0 +1,26 @@
+package frc.robot.subsystems;
+
+/**
+ * Simulated drivetrain. Runs the real SparkMax code against REV's simulated controllers, with
+ * {@link DriveSim} stepping the drivetrain physics and the simulated navX before each read.
+ */
+public class DriveIOSim extends DriveIOSparkMax {
+  private final DriveSim m_driveSim;
+
+  public DriveIOSim() {
+    m_driveSim = new DriveSim(m_backLeft, m_backRight);
+  }
+
+  @Override
+  public void updateInputs(DriveIOInputs inputs) {
+    m_driveSim.update();
+    super.updateInputs(inputs);
+    // The simulated drivetrain has one wheel per side and the navX sim only moves the yaw, so fill
+    // in what the front encoders and gyro rate would read on a robot that is not slipping
+    inputs.leftFollowerPositionMeters = inputs.leftPositionMeters;
+    inputs.leftFollowerVelocityMetersPerSec = inputs.leftVelocityMetersPerSec;
+    inputs.rightFollowerPositionMeters = inputs.rightPositionMeters;
+    inputs.rightFollowerVelocityMetersPerSec = inputs.rightVelocityMetersPerSec;
+    inputs.gyroRateDegreesPerSec = m_driveSim.getGyroRateDegreesPerSec();
+  }
+}
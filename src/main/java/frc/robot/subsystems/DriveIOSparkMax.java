@@ -0,0 +1,281 @@
+package frc.robot.subsystems;
+
+import com.revrobotics.PersistMode;
+import com.revrobotics.ResetMode;
+import com.revrobotics.spark.SparkBase;
+import com.revrobotics.spark.SparkClosedLoopController;
+import com.revrobotics.spark.SparkMax;
+import com.revrobotics.spark.config.SparkBaseConfig.IdleMode;
+import com.revrobotics.spark.config.SparkMaxConfig;
+import com.studica.frc.AHRS;
+import com.studica.frc.AHRS.NavXComType;
+import edu.wpi.first.wpilibj.Notifier;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Threads;
+import frc.robot.DriveConstants;
+import frc.robot.RobotStartup;
+import frc.robot.SparkConfigService;
+import frc.robot.constants.Constants;
+import frc.robot.constants.Constants.CANConstants;
+import frc.robot.constants.TweakConstants;
+import frc.robot.utils.OdometryRingBuffer;
+
+public class DriveIOSparkMax implements DriveIO {
+  private final AHRS m_gyro;
+
+  protected final SparkMax m_backLeft; // Leader for left
+  private final SparkMax m_frontLeft; // Follows back left
+  protected final SparkMax m_backRight; // Leader for right
+  private final SparkMax m_frontRight; // Follows back right
+
+  private final SparkMaxConfig m_backLeftConfig = new SparkMaxConfig();
+  private final SparkMaxConfig m_frontLeftConfig = new SparkMaxConfig();
+  private final SparkMaxConfig m_backRightConfig = new SparkMaxConfig();
+  private final SparkMaxConfig m_frontRightConfig = new SparkMaxConfig();
+
+  // Idle mode only, applied at runtime by SparkConfigService; never modified after construction
+  // so the config thread can read them
+  private final SparkMaxConfig m_brakeIdleConfig = new SparkMaxConfig();
+  private final SparkMaxConfig m_coastIdleConfig = new SparkMaxConfig();
+  private SparkConfigService.Batch m_idleModeBatch;
+  private boolean m_brakeModeRequested = TweakConstants.ENABLE_DYNAMIC_BRAKING;
+  private boolean m_brakeModeApplied = TweakConstants.ENABLE_DYNAMIC_BRAKING;
+
+  private final SparkClosedLoopController m_backLeftPIDController;
+  private final SparkClosedLoopController m_backRightPIDController;
+
+  // Odometry sampling thread, started on the first read so it never races motor configuration
+  private final OdometryRingBuffer m_odometrySamples =
+      new OdometryRingBuffer(Constants.ODOMETRY_QUEUE_CAPACITY);
+  private Notifier m_odometryNotifier;
+  private boolean m_odometryPriorityRaised = false;
+
+  public DriveIOSparkMax() {
+    // Update the navX as fast as odometry samples it, so every 200 Hz sample sees a fresh yaw
+    m_gyro = new AHRS(NavXComType.kMXP_SPI, (int) Math.round(1.0 / Constants.ODOMETRY_PERIOD));
+    m_backLeft = new SparkMax(CANConstants.MOTOR_BACK_LEFT_ID, SparkMax.MotorType.kBrushless);
+    m_frontLeft = new SparkMax(CANConstants.MOTOR_FRONT_LEFT_ID, SparkMax.MotorType.kBrushless);
+    m_frontRight = new SparkMax(CANConstants.MOTOR_FRONT_RIGHT_ID, SparkMax.MotorType.kBrushless);
+    m_backRight = new SparkMax(CANConstants.MOTOR_BACK_RIGHT_ID, SparkMax.MotorType.kBrushless);
+
+    // invert motors
+    m_backRightConfig.inverted(true);
+    m_frontRightConfig.inverted(true);
+    m_backLeftConfig.inverted(false);
+    m_frontLeftConfig.inverted(false);
+
+    IdleMode idleMode = TweakConstants.ENABLE_DYNAMIC_BRAKING ? IdleMode.kBrake : IdleMode.kCoast;
+    m_backLeftConfig.idleMode(idleMode);
+    m_backRightConfig.idleMode(idleMode);
+    m_frontLeftConfig.idleMode(idleMode);
+    m_frontRightConfig.idleMode(idleMode);
+    m_brakeIdleConfig.idleMode(IdleMode.kBrake);
+    m_coastIdleConfig.idleMode(IdleMode.kCoast);
+
+    // setup main and secondary motors
+    m_frontLeftConfig.follow(m_backLeft);
+    m_frontRightConfig.follow(m_backRight);
+
+    // all four encoders report meters and m/s
+    configureEncoder(m_backLeftConfig);
+    configureEncoder(m_frontLeftConfig);
+    configureEncoder(m_backRightConfig);
+    configureEncoder(m_frontRightConfig);
+    resetEncoders();
+
+    // Leader position frames at the odometry rate so each sample sees a fresh reading
+    int odometryPeriodMs = (int) Math.round(Constants.ODOMETRY_PERIOD * 1000);
+    m_backLeftConfig.signals.primaryEncoderPositionPeriodMs(odometryPeriodMs);
+    m_backRightConfig.signals.primaryEncoderPositionPeriodMs(odometryPeriodMs);
+
+    m_backLeftPIDController = m_backLeft.getClosedLoopController();
+    m_backRightPIDController = m_backRight.getClosedLoopController();
+    configureClosedLoop(m_backLeftConfig);
+    configureClosedLoop(m_backRightConfig);
+
+    // burn config to motors, all four at once on the startup pool
+    RobotStartup.submit(
+        "Drive/configureBackLeft",
+        () ->
+            m_backLeft.configure(
+                m_backLeftConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
+    RobotStartup.submit(
+        "Drive/configureFrontLeft",
+        () ->
+            m_frontLeft.configure(
+                m_frontLeftConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
+    RobotStartup.submit(
+        "Drive/configureBackRight",
+        () ->
+            m_backRight.configure(
+                m_backRightConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
+    RobotStartup.submit(
+        "Drive/configureFrontRight",
+        () ->
+            m_frontRight.configure(
+                m_frontRightConfig,
+                ResetMode.kResetSafeParameters,
+                PersistMode.kPersistParameters));
+  }
+
+  private static void configureEncoder(SparkMaxConfig config) {
+    // RPM to m/s
+    config.encoder.velocityConversionFactor(DriveConstants.VELOCITY_CONVERSION_RATIO);
+    // rotations to meters
+    config.encoder.positionConversionFactor(DriveConstants.POSITION_CONVERSION_RATIO);
+  }
+
+  private static void configureClosedLoop(SparkMaxConfig config) {
+    // velocity PID (used by auto)
+    config.closedLoop.pid(
+        DriveConstants.kPDriveVel,
+        DriveConstants.kIDriveVel,
+        DriveConstants.kDDriveVel,
+        DriveConstants.kDrivetrainVelocityPIDSlot);
+    config.closedLoop.iZone(DriveConstants.kIzDriveVel, DriveConstants.kDrivetrainVelocityPIDSlot);
+    config.closedLoop.outputRange(
+        DriveConstants.kMinOutputDrive,
+        DriveConstants.kMaxOutputDrive,
+        DriveConstants.kDrivetrainVelocityPIDSlot);
+
+    // position PID (used when we manually path find)
+    config.closedLoop.pid(
+        DriveConstants.kPDrivePos,
+        DriveConstants.kIDrivePos,
+        DriveConstants.kDDrivePos,
+        DriveConstants.kDrivetrainPositionPIDSlot);
+    config.closedLoop.iZone(DriveConstants.kIzDrivePos, DriveConstants.kDrivetrainPositionPIDSlot);
+    config.closedLoop.outputRange(
+        DriveConstants.kMinOutputDrive,
+        DriveConstants.kMaxOutputDrive,
+        DriveConstants.kDrivetrainPositionPIDSlot);
+  }
+
+  /** Odometry thread step: takes one timestamped sample of both leader encoders and the gyro. */
+  private void sampleOdometry() {
+    if (!m_odometryPriorityRaised) {
+      Threads.setCurrentThreadPriority(true, Constants.ODOMETRY_RT_PRIORITY);
+      m_odometryPriorityRaised = true;
+    }
+    m_odometrySamples.offer(
+        RobotController.getFPGATime() / 1e6,
+        m_backLeft.getEncoder().getPosition(),
+        m_backRight.getEncoder().getPosition(),
+        m_gyro.getAngle());
+  }
+
+  @Override
+  public void updateInputs(DriveIOInputs inputs) {
+    if (m_odometryNotifier == null) {
+      m_odometryNotifier = new Notifier(this::sampleOdometry);
+      m_odometryNotifier.setName("DriveOdometry");
+      m_odometryNotifier.startPeriodic(Constants.ODOMETRY_PERIOD);
+    }
+    inputs.odometrySampleCount =
+        m_odometrySamples.drainTo(
+            inputs.odometryTimestamps,
+            inputs.odometryLeftPositionsMeters,
+            inputs.odometryRightPositionsMeters,
+            inputs.odometryGyroAnglesDegrees);
+    inputs.odometryDroppedSamples = m_odometrySamples.getDroppedCount();
+
+    inputs.leftPositionMeters = m_backLeft.getEncoder().getPosition();
+    inputs.leftVelocityMetersPerSec = m_backLeft.getEncoder().getVelocity();
+    inputs.rightPositionMeters = m_backRight.getEncoder().getPosition();
+    inputs.rightVelocityMetersPerSec = m_backRight.getEncoder().getVelocity();
+    inputs.leftFollowerPositionMeters = m_frontLeft.getEncoder().getPosition();
+    inputs.leftFollowerVelocityMetersPerSec = m_frontLeft.getEncoder().getVelocity();
+    inputs.rightFollowerPositionMeters = m_frontRight.getEncoder().getPosition();
+    inputs.rightFollowerVelocityMetersPerSec = m_frontRight.getEncoder().getVelocity();
+
+    inputs.leftAppliedVolts = m_backLeft.getAppliedOutput() * m_backLeft.getBusVoltage();
+    inputs.rightAppliedVolts = m_backRight.getAppliedOutput() * m_backRight.getBusVoltage();
+    inputs.leftCurrentAmps[0] = m_backLeft.getOutputCurrent();
+    inputs.leftCurrentAmps[1] = m_frontLeft.getOutputCurrent();
+    inputs.rightCurrentAmps[0] = m_backRight.getOutputCurrent();
+    inputs.rightCurrentAmps[1] = m_frontRight.getOutputCurrent();
+    inputs.leftTempCelsius[0] = m_backLeft.getMotorTemperature();
+    inputs.leftTempCelsius[1] = m_frontLeft.getMotorTemperature();
+    inputs.rightTempCelsius[0] = m_backRight.getMotorTemperature();
+    inputs.rightTempCelsius[1] = m_frontRight.getMotorTemperature();
+
+    inputs.gyroConnected = m_gyro.isConnected();
+    inputs.gyroCalibrating = m_gyro.isCalibrating();
+    inputs.gyroAngleDegrees = m_gyro.getAngle();
+    inputs.gyroYawDegrees = m_gyro.getYaw();
+    inputs.gyroPitchDegrees = m_gyro.getPitch();
+    inputs.gyroRateDegreesPerSec = m_gyro.getRate();
+
+    if (m_idleModeBatch != null && m_idleModeBatch.isDone()) {
+      if (m_idleModeBatch.getStatus() == SparkConfigService.Status.DONE) {
+        m_brakeModeApplied = m_brakeModeRequested;
+      }
+      m_idleModeBatch = null;
+    }
+    inputs.brakeModeRequested = m_brakeModeRequested;
+    inputs.brakeModeApplied = m_brakeModeApplied;
+    inputs.idleModeChangePending = m_idleModeBatch != null;
+  }
+
+  @Override
+  public void setDutyCycle(double left, double right) {
+    m_backLeft.set(left);
+    m_backRight.set(right);
+  }
+
+  @Override
+  public void setVoltage(double leftVolts, double rightVolts) {
+    m_backLeft.setVoltage(leftVolts);
+    m_backRight.setVoltage(rightVolts);
+  }
+
+  @Override
+  public void setVelocity(
+      double leftMetersPerSec, double rightMetersPerSec, double leftFFVolts, double rightFFVolts) {
+    m_backLeftPIDController.setSetpoint(
+        leftMetersPerSec,
+        SparkBase.ControlType.kVelocity,
+        DriveConstants.kDrivetrainVelocityPIDSlot,
+        leftFFVolts);
+    m_backRightPIDController.setSetpoint(
+        rightMetersPerSec,
+        SparkBase.ControlType.kVelocity,
+        DriveConstants.kDrivetrainVelocityPIDSlot,
+        rightFFVolts);
+  }
+
+  @Override
+  public void setPosition(double leftMeters, double rightMeters) {
+    m_backLeftPIDController.setSetpoint(
+        leftMeters, SparkBase.ControlType.kPosition, DriveConstants.kDrivetrainPositionPIDSlot);
+    m_backRightPIDController.setSetpoint(
+        rightMeters, SparkBase.ControlType.kPosition, DriveConstants.kDrivetrainPositionPIDSlot);
+  }
+
+  @Override
+  public void setBrakeMode(boolean brake) {
+    // Only the idle mode goes out, off the main thread and without a flash write
+    SparkMaxConfig config = brake ? m_brakeIdleConfig : m_coastIdleConfig;
+    m_brakeModeRequested = brake;
+    m_idleModeBatch =
+        SparkConfigService.submit(
+            SparkConfigService.batch("Drive/IdleMode")
+                .add(m_backLeft, config)
+                .add(m_frontLeft, config)
+                .add(m_backRight, config)
+                .add(m_frontRight, config));
+  }
+
+  @Override
+  public void resetEncoders() {
+    m_backLeft.getEncoder().setPosition(0);
+    m_frontLeft.getEncoder().setPosition(0);
+    m_backRight.getEncoder().setPosition(0);
+    m_frontRight.getEncoder().setPosition(0);
+  }
+
+  @Override
+  public void resetGyro() {
+    m_gyro.reset();
+  }
+}
@@ -72,4 +72,13 @@ public class DriveSim {
     m_rightEncoderSim.setPosition(m_driveTrainSim.getRightPositionMeters());
     m_rightEncoderSim.setVelocity(m_driveTrainSim.getRightVelocityMetersPerSecond());
   }
+
+  /** Returns the simulated turn rate in degrees per second, clockwise positive like the navX. */
+  public double getGyroRateDegreesPerSec() {
+    double omega =
+        (m_driveTrainSim.getRightVelocityMetersPerSecond()
+                - m_driveTrainSim.getLeftVelocityMetersPerSecond())
+            / DriveConstants.kTrackwidthMeters;
+    return -Math.toDegrees(omega);
+  }
 }
@@ -0,0 +1,55 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import frc.robot.utils.SnapshotStruct;
+
+/**
+ * Struct-serialized drivetrain state, published as one topic per loop by {@link DriveSubsystem}.
+ * Dashboards that subscribe to a snapshot read one internally consistent sample instead of polling
+ * several loosely timed scalar keys. The subsystem refills the same instance every loop.
+ */
+public class DriveSnapshot implements StructSerializable {
+  /** Estimated field X position, in meters. */
+  public double poseX;
+  /** Estimated field Y position, in meters. */
+  public double poseY;
+  /** Estimated heading, in radians. */
+  public double poseHeadingRadians;
+  /** Back left encoder position. */
+  public double leftPositionRotations;
+  /** Back right encoder position. */
+  public double rightPositionRotations;
+  /** Back left encoder velocity. */
+  public double leftVelocityRPM;
+  /** Back right encoder velocity. */
+  public double rightVelocityRPM;
+  /** Gyro yaw, in degrees. */
+  public double yawDegrees;
+  /** True while the gyro is calibrating. */
+  public boolean gyroCalibrating;
+  /** True when the drive motors idle in brake mode. */
+  public boolean brakeMode;
+
+  /** Struct serializer for {@link DriveSnapshot}. */
+  public static final SnapshotStruct<DriveSnapshot> struct =
+      new SnapshotStruct<>(DriveSnapshot.class, DriveSnapshot::new)
+          .addDouble("poseX", s -> s.poseX, (s, v) -> s.poseX = v)
+          .addDouble("poseY", s -> s.poseY, (s, v) -> s.poseY = v)
+          .addDouble(
+              "poseHeadingRadians",
+              s -> s.poseHeadingRadians,
+              (s, v) -> s.poseHeadingRadians = v)
+          .addDouble(
+              "leftPositionRotations",
+              s -> s.leftPositionRotations,
+              (s, v) -> s.leftPositionRotations = v)
+          .addDouble(
+              "rightPositionRotations",
+              s -> s.rightPositionRotations,
+              (s, v) -> s.rightPositionRotations = v)
+          .addDouble("leftVelocityRPM", s -> s.leftVelocityRPM, (s, v) -> s.leftVelocityRPM = v)
+          .addDouble("rightVelocityRPM", s -> s.rightVelocityRPM, (s, v) -> s.rightVelocityRPM = v)
+          .addDouble("yawDegrees", s -> s.yawDegrees, (s, v) -> s.yawDegrees = v)
+          .addBoolean("gyroCalibrating", s -> s.gyroCalibrating, (s, v) -> s.gyroCalibrating = v)
+          .addBoolean("brakeMode", s -> s.brakeMode, (s, v) -> s.brakeMode = v);
+}
@@ -11,75 +11,48 @@ import com.pathplanner.lib.path.GoalEndState;
 import com.pathplanner.lib.path.IdealStartingState;
 import com.pathplanner.lib.path.PathPlannerPath;
 import com.pathplanner.lib.path.Waypoint;
-import com.revrobotics.PersistMode;
-import com.revrobotics.RelativeEncoder;
-import com.revrobotics.ResetMode;
-import com.revrobotics.spark.SparkBase;
-import com.revrobotics.spark.SparkClosedLoopController;
-import com.revrobotics.spark.SparkMax;
-import com.revrobotics.spark.config.SparkBaseConfig.IdleMode;
-import com.revrobotics.spark.config.SparkMaxConfig;
-import com.studica.frc.AHRS;
-import com.studica.frc.AHRS.NavXComType;
+import edu.wpi.first.math.Matrix;
+import edu.wpi.first.math.VecBuilder;
 import edu.wpi.first.math.controller.SimpleMotorFeedforward;
 import edu.wpi.first.math.estimator.DifferentialDrivePoseEstimator;
 import edu.wpi.first.math.geometry.Pose2d;
 import edu.wpi.first.math.geometry.Rotation2d;
 import edu.wpi.first.math.kinematics.ChassisSpeeds;
 import edu.wpi.first.math.kinematics.DifferentialDriveWheelSpeeds;
+import edu.wpi.first.math.numbers.N1;
+import edu.wpi.first.math.numbers.N3;
 import edu.wpi.first.units.measure.Voltage;
-import edu.wpi.first.wpilibj.DriverStation;
-import edu.wpi.first.wpilibj.RobotBase;
+import edu.wpi.first.wpilibj.TimedRobot;
 import edu.wpi.first.wpilibj.drive.DifferentialDrive;
 import edu.wpi.first.wpilibj.smartdashboard.Field2d;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
 import edu.wpi.first.wpilibj2.command.sysid.SysIdRoutine;
+import frc.robot.AlertBus;
 import frc.robot.DriveConstants;
+import frc.robot.LoopProfiler;
+import frc.robot.RobotState;
 import frc.robot.RobotTelemetry;
-import frc.robot.constants.Constants.CANConstants;
+import frc.robot.constants.Constants;
 import frc.robot.constants.SpeedConstants;
+import frc.robot.constants.TweakConstants;
 import java.util.ArrayList;
 import java.util.List;
+import org.littletonrobotics.junction.Logger;
 
 /** This Subsystem is what allows the code to interact with the drivetrain of the robot. */
 public class DriveSubsystem extends SubsystemBase {
-  // Gyro
-  private final AHRS m_Gyro;
-
-  private final SparkMax m_backLeft; // Main / Master Motor for Left
-  private final SparkMax m_frontLeft; // Slave Motor for Left (Follow Master)
-  private final SparkMax m_backRight; // Main / Master Motor for Right
-  private final SparkMax m_frontRight; // Slave Motor for Right (Follow Master)
-
-  // Drive Simulation wrapper
-  private DriveSim m_driveSim;
-
-  // Motor Configs
-  private final SparkMaxConfig m_backLeftConfig = new SparkMaxConfig();
-  private final SparkMaxConfig m_frontLeftConfig = new SparkMaxConfig();
-  private final SparkMaxConfig m_backRightConfig = new SparkMaxConfig();
-  private final SparkMaxConfig m_frontRightConfig = new SparkMaxConfig();
+  // Motors, encoders and gyro, read once per loop into m_inputs
+  private final DriveIO m_io;
+  private final DriveIOInputsAutoLogged m_inputs = new DriveIOInputsAutoLogged();
 
   // Main drive function
   private final DifferentialDrive m_ddrive;
-
-  // Encoders
-  private final RelativeEncoder m_encoderBackLeft;
-  private final RelativeEncoder m_encoderFrontLeft;
-  private final RelativeEncoder m_encoderBackRight;
-  private final RelativeEncoder m_encoderFrontRight;
-
-  // Motor PID Controllers
-  private final SparkClosedLoopController m_backLeftPIDController;
-  private final SparkClosedLoopController m_backRightPIDController;
+  private double m_leftOutput = 0.0;
 
   // Pathing Constraints
   private boolean reduceOnTheFlySpeed;
 
-  // Current Idle mode
-  private boolean isBrakeMode;
-
   // motor feedforward
   SimpleMotorFeedforward m_driveFeedForward =
       new SimpleMotorFeedforward(
@@ -93,88 +66,106 @@ public class DriveSubsystem extends SubsystemBase {
   // Odometry class for tracking robot pose (position on field)
   private final DifferentialDrivePoseEstimator m_driveOdometry;
 
+  // Reused kinematic state, refilled every loop so callers never allocate
+  private final DifferentialDriveWheelSpeeds m_wheelSpeeds = new DifferentialDriveWheelSpeeds();
+  private final ChassisSpeeds m_chassisSpeeds = new ChassisSpeeds();
+
   // track robot field location for dashboard
   private Field2d field = new Field2d();
+  // Last pose published to the field widget
+  private double m_fieldPoseX = Double.NaN;
+  private double m_fieldPoseY = Double.NaN;
+  private double m_fieldPoseTheta = Double.NaN;
 
   // setup SysID for auto profiling
   private final SysIdRoutine m_sysIdRoutine;
 
   private boolean gyroZeroPending = true;
 
-  /** Creates a new DriveSubsystem. */
-  public DriveSubsystem() {
-    // Init gyro
-    m_Gyro = new AHRS(NavXComType.kMXP_SPI);
-    // init motors
-    // rio means built into the roboRIO
-    m_backLeft = new SparkMax(CANConstants.MOTOR_BACK_LEFT_ID, SparkMax.MotorType.kBrushless);
-    m_frontLeft = new SparkMax(CANConstants.MOTOR_FRONT_LEFT_ID, SparkMax.MotorType.kBrushless);
-    m_frontRight = new SparkMax(CANConstants.MOTOR_FRONT_RIGHT_ID, SparkMax.MotorType.kBrushless);
-    m_backRight = new SparkMax(CANConstants.MOTOR_BACK_RIGHT_ID, SparkMax.MotorType.kBrushless);
-
-    if (RobotBase.isSimulation()) {
-      m_driveSim = new DriveSim(m_backLeft, m_backRight);
-    }
+  // FPGA time of the last odometry sample fed to the estimator, for jitter
+  private double m_lastOdometryTimestamp = 0.0;
+
+  // Wheel slip detection; backs off the output and corrects odometry while a side slips
+  private final TractionControl m_traction = new TractionControl();
+  private boolean m_visionTrustRaised = false;
+  // Loop timestamp of the last traction update, in seconds, or 0 before the first
+  private double m_lastTractionTime = 0.0;
+  // Correction fed to the estimator with the last odometry sample; each loop's new correction is
+  // spread across that loop's samples
+  private double m_appliedLeftCorrection = 0.0;
+  private double m_appliedRightCorrection = 0.0;
+  private final Matrix<N3, N1> m_visionStdDevs =
+      VecBuilder.fill(Constants.VISION_STD_DEV, Constants.VISION_STD_DEV, Constants.VISION_STD_DEV);
+  private final Matrix<N3, N1> m_slipVisionStdDevs =
+      VecBuilder.fill(
+          Constants.TRACTION_SLIP_VISION_STD_DEV,
+          Constants.TRACTION_SLIP_VISION_STD_DEV,
+          Constants.TRACTION_SLIP_VISION_STD_DEV);
+
+  // Telemetry
+  private final RobotTelemetry.NumberHandle m_distanceTelemetry =
+      RobotTelemetry.numberHandle("Average Distance Traveled").withTier(RobotTelemetry.Tier.PIT);
+  private final RobotTelemetry.NumberHandle m_yawTelemetry =
+      RobotTelemetry.numberHandle("Current Gyro Yaw", 0.05); // degrees
+  private final RobotTelemetry.BooleanHandle m_gyroCalibratingTelemetry =
+      RobotTelemetry.booleanHandle("Gyro Calibrating");
+  private final RobotTelemetry.NumberHandle m_leftPositionTelemetry =
+      RobotTelemetry.numberHandle("DriveLeftMotorPositionRotations")
+          .withTier(RobotTelemetry.Tier.DEBUG);
+  private final RobotTelemetry.NumberHandle m_rightPositionTelemetry =
+      RobotTelemetry.numberHandle("DriveRightMotorPositionRotations")
+          .withTier(RobotTelemetry.Tier.DEBUG);
+  private final RobotTelemetry.NumberHandle m_leftVelocityTelemetry =
+      RobotTelemetry.numberHandle("DriveLeftMotorVelocityRPM").withTier(RobotTelemetry.Tier.DEBUG);
+  private final RobotTelemetry.NumberHandle m_rightVelocityTelemetry =
+      RobotTelemetry.numberHandle("DriveRightMotorVelocityRPM").withTier(RobotTelemetry.Tier.DEBUG);
+  private final RobotTelemetry.NumberHandle m_odometrySamplesTelemetry =
+      RobotTelemetry.numberHandle("Odometry/SamplesPerLoop");
+  private final RobotTelemetry.NumberHandle m_odometryJitterTelemetry =
+      RobotTelemetry.numberHandle("Odometry/MaxJitterMicros");
+  private final RobotTelemetry.BooleanHandle m_leftSlipTelemetry =
+      RobotTelemetry.booleanHandle("Traction/LeftSlipping");
+  private final RobotTelemetry.BooleanHandle m_rightSlipTelemetry =
+      RobotTelemetry.booleanHandle("Traction/RightSlipping");
+  private final RobotTelemetry.BooleanHandle m_pushingTelemetry =
+      RobotTelemetry.booleanHandle("Traction/Pushing");
+  private final RobotTelemetry.NumberHandle m_leftCorrectionTelemetry =
+      RobotTelemetry.numberHandle("Traction/LeftCorrectionMeters", 0.01);
+  private final RobotTelemetry.NumberHandle m_rightCorrectionTelemetry =
+      RobotTelemetry.numberHandle("Traction/RightCorrectionMeters", 0.01);
+  private final DriveSnapshot m_snapshot = new DriveSnapshot();
+  private final RobotTelemetry.StructHandle<DriveSnapshot> m_snapshotTelemetry =
+      RobotTelemetry.structHandle("Snapshot/Drive", DriveSnapshot.struct);
+
+  // Profiling
+  private final LoopProfiler.Phase m_periodicPhase =
+      LoopProfiler.phase("Drive/periodic")
+          .withAllocationBudget(Constants.DRIVE_ALLOCATION_BUDGET_PER_LOOP);
 
-    // invert motors
-    m_backRightConfig.inverted(true);
-    m_frontRightConfig.inverted(true);
-    m_backLeftConfig.inverted(false);
-    m_frontLeftConfig.inverted(false);
-
-    SparkMaxConfig.IdleMode idleMode =
-        frc.robot.constants.TweakConstants.ENABLE_DYNAMIC_BRAKING
-            ? SparkMaxConfig.IdleMode.kBrake
-            : SparkMaxConfig.IdleMode.kCoast;
-    m_backLeftConfig.idleMode(idleMode);
-    m_backRightConfig.idleMode(idleMode);
-    m_frontLeftConfig.idleMode(idleMode);
-    m_frontRightConfig.idleMode(idleMode);
-    isBrakeMode = frc.robot.constants.TweakConstants.ENABLE_DYNAMIC_BRAKING;
-
-    // setup main and secondary motors
-    m_frontLeftConfig.follow(m_backLeft); // set front left to follow back left
-    m_frontRightConfig.follow(m_backRight); // set front right to follow back right
-
-    // init drive function
-    m_ddrive = new DifferentialDrive(m_backLeft, m_backRight);
-
-    // init Encoders, we use all 4 encoders even though only 2 are used in feedback to decrease
-    // error
-    m_encoderBackLeft = m_backLeft.getEncoder();
-    m_encoderFrontLeft = m_frontLeft.getEncoder();
-    m_encoderBackRight = m_backRight.getEncoder();
-    m_encoderFrontRight = m_frontRight.getEncoder();
-    // Encoders inverted with motors
-
-    // init PID Controllers
-    m_backLeftPIDController = m_backLeft.getClosedLoopController();
-    m_backRightPIDController = m_backRight.getClosedLoopController();
-
-    // configure encoders
-    // RPM TO m/s
-    m_backLeftConfig.encoder.velocityConversionFactor(DriveConstants.VELOCITY_CONVERSION_RATIO);
-    m_backRightConfig.encoder.velocityConversionFactor(DriveConstants.VELOCITY_CONVERSION_RATIO);
-    m_frontLeftConfig.encoder.velocityConversionFactor(DriveConstants.VELOCITY_CONVERSION_RATIO);
-    m_frontRightConfig.encoder.velocityConversionFactor(DriveConstants.VELOCITY_CONVERSION_RATIO);
-    // rotations to meters
-    m_backLeftConfig.encoder.positionConversionFactor(DriveConstants.POSITION_CONVERSION_RATIO);
-    m_backRightConfig.encoder.positionConversionFactor(DriveConstants.POSITION_CONVERSION_RATIO);
-    m_frontLeftConfig.encoder.positionConversionFactor(DriveConstants.POSITION_CONVERSION_RATIO);
-    m_frontRightConfig.encoder.positionConversionFactor(DriveConstants.POSITION_CONVERSION_RATIO);
-    resetEncoders();
-
-    // setup PID controllers
-    configureMotorPIDControllers();
+  /**
+   * Creates a new DriveSubsystem.
+   *
+   * @param io Drivetrain hardware, simulation, or nothing for replay
+   */
+  public DriveSubsystem(DriveIO io) {
+    m_io = io;
+
+    // init drive function. DifferentialDrive always sets the left side first, so both sides go
+    // out together once the right side arrives
+    m_ddrive =
+        new DifferentialDrive(
+            left -> m_leftOutput = left, right -> m_io.setDutyCycle(m_leftOutput, right));
 
     // configure Odemetry
     m_driveOdometry =
         new DifferentialDrivePoseEstimator(
             DriveConstants.kDriveKinematics,
             getRotation2d(),
-            getPositionLeft(),
-            getPositionRight(),
-            new Pose2d());
+            getOdometryLeft(),
+            getOdometryRight(),
+            new Pose2d(),
+            VecBuilder.fill(0.02, 0.02, 0.01), // WPILib's default odometry trust
+            m_visionStdDevs);
 
     final PPLTVController m_driveController = new PPLTVController(0.02);
     // Setup Base AutoBuilder (Autonomous)
@@ -182,7 +173,7 @@ public class DriveSubsystem extends SubsystemBase {
       AutoBuilder.configure(
           this::getPose, // Pose2d supplier
           this::resetPose, // Pose2d consumer, used to reset odometry at the beginning of auto
-          this::getSpeeds, // A method for getting the chassis' current speed and direction
+          this::getSpeeds, // This loop's chassis speed and direction, without allocating
           this::setSpeeds, // A consumer that takes the desired chassis speed and direction
           m_driveController, // PPLTVController is the built in path following controller for
           // differential drive trains
@@ -195,17 +186,16 @@ public class DriveSubsystem extends SubsystemBase {
             if (frc.robot.constants.TweakConstants.FORCE_RED_ALLIANCE_MODE) {
               return true;
             }
-            var alliance = DriverStation.getAlliance();
-            if (alliance.isPresent()) {
-              return alliance.get() == DriverStation.Alliance.Red;
-            }
-            return false;
+            return RobotState.isRedAlliance();
           },
           this // Reference to this subsystem to set requirements
           );
     } else {
-      System.err.println(
-          "WARNING: PathPlanner autoConfig is null! AutoBuilder was NOT configured.");
+      AlertBus.alert(
+              "PathPlanner",
+              AlertBus.Severity.ERROR,
+              "PathPlanner autoConfig is null! AutoBuilder was NOT configured.")
+          .set(true);
     }
 
     RobotTelemetry.putData("Field", field); // add field to dashboard
@@ -223,16 +213,6 @@ public class DriveSubsystem extends SubsystemBase {
                 null, // No log consumer, since data is recorded by URCL
                 this));
 
-    // burn config to motors
-    m_backLeft.configure(
-        m_backLeftConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-    m_frontLeft.configure(
-        m_frontLeftConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-    m_backRight.configure(
-        m_backRightConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-    m_frontRight.configure(
-        m_frontRightConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-
     // Set on the fly pathing constraints
     reduceOnTheFlySpeed = false;
   }
@@ -245,66 +225,8 @@ public class DriveSubsystem extends SubsystemBase {
     return m_sysIdRoutine.dynamic(direction);
   }
 
-  private void configureMotorPIDControllers() {
-    // setup velocity PID controllers (used by auto)
-    // PID
-    m_backLeftConfig.closedLoop.pid(
-        DriveConstants.kPDriveVel,
-        DriveConstants.kIDriveVel,
-        DriveConstants.kDDriveVel,
-        DriveConstants.kDrivetrainVelocityPIDSlot);
-    m_backRightConfig.closedLoop.pid(
-        DriveConstants.kPDriveVel,
-        DriveConstants.kIDriveVel,
-        DriveConstants.kDDriveVel,
-        DriveConstants.kDrivetrainVelocityPIDSlot);
-    // Set Izone (Integral Zone)
-    m_backLeftConfig.closedLoop.iZone(
-        DriveConstants.kIzDriveVel, DriveConstants.kDrivetrainVelocityPIDSlot);
-    m_backRightConfig.closedLoop.iZone(
-        DriveConstants.kIzDriveVel, DriveConstants.kDrivetrainVelocityPIDSlot);
-    // set output range
-    m_backLeftConfig.closedLoop.outputRange(
-        DriveConstants.kMinOutputDrive,
-        DriveConstants.kMaxOutputDrive,
-        DriveConstants.kDrivetrainVelocityPIDSlot);
-    m_backRightConfig.closedLoop.outputRange(
-        DriveConstants.kMinOutputDrive,
-        DriveConstants.kMaxOutputDrive,
-        DriveConstants.kDrivetrainVelocityPIDSlot);
-
-    // setup position PID controllers (used when we manually path find)
-    // PID
-    m_backLeftConfig.closedLoop.pid(
-        DriveConstants.kPDrivePos,
-        DriveConstants.kIDrivePos,
-        DriveConstants.kDDrivePos,
-        DriveConstants.kDrivetrainPositionPIDSlot);
-    m_backRightConfig.closedLoop.pid(
-        DriveConstants.kPDrivePos,
-        DriveConstants.kIDrivePos,
-        DriveConstants.kDDrivePos,
-        DriveConstants.kDrivetrainPositionPIDSlot);
-    // Integral Zone
-
-    m_backLeftConfig.closedLoop.iZone(
-        DriveConstants.kIzDrivePos, DriveConstants.kDrivetrainPositionPIDSlot);
-    m_backRightConfig.closedLoop.iZone(
-        DriveConstants.kIzDrivePos, DriveConstants.kDrivetrainPositionPIDSlot);
-    // Output Range
-    m_backLeftConfig.closedLoop.outputRange(
-        DriveConstants.kMinOutputDrive,
-        DriveConstants.kMaxOutputDrive,
-        DriveConstants.kDrivetrainPositionPIDSlot);
-    m_backRightConfig.closedLoop.outputRange(
-        DriveConstants.kMinOutputDrive,
-        DriveConstants.kMaxOutputDrive,
-        DriveConstants.kDrivetrainPositionPIDSlot);
-  }
-
   public void setVoltage(Voltage rightVoltage, Voltage leftVoltage) {
-    m_backLeft.setVoltage(leftVoltage.in(Volts));
-    m_backRight.setVoltage(rightVoltage.in(Volts));
+    m_io.setVoltage(leftVoltage.in(Volts), rightVoltage.in(Volts));
     m_ddrive.feed();
   }
 
@@ -320,6 +242,10 @@ public class DriveSubsystem extends SubsystemBase {
             rightSpeed,
             SpeedConstants.FRONT_RIGHT_MAX_SPEED,
             SpeedConstants.FRONT_RIGHT_SENSITIVITY);
+    if (TweakConstants.ENABLE_TRACTION_CONTROL) {
+      adjLeft *= m_traction.getLeftOutputScale();
+      adjRight *= m_traction.getRightOutputScale();
+    }
     m_ddrive.tankDrive(adjLeft, adjRight);
   }
 
@@ -401,18 +327,43 @@ public class DriveSubsystem extends SubsystemBase {
 
   /**
    * This function can return our robots DiffernentialDriveWheelSpeeds, which is the speed of each
-   * side of the robot.
+   * side of the robot. The same instance is refilled every loop; do not modify or keep it.
    */
   public DifferentialDriveWheelSpeeds getWheelSpeeds() {
-    return new DifferentialDriveWheelSpeeds(getVelocityLeft(), getVelocityRight());
+    return m_wheelSpeeds;
   }
 
   /**
    * This function can return our robots ChassisSpeeds, which is vx (m/s), vy (m/s), and omega
-   * (rad/s).
+   * (rad/s). The same instance is refilled every loop; do not modify or keep it.
    */
   public ChassisSpeeds getSpeeds() {
-    return DriveConstants.kDriveKinematics.toChassisSpeeds(getWheelSpeeds());
+    return m_chassisSpeeds;
+  }
+
+  /** Returns this loop's forward speed in m/s. */
+  public double getVxMetersPerSecond() {
+    return m_chassisSpeeds.vxMetersPerSecond;
+  }
+
+  /** Returns this loop's turn rate in rad/s, counterclockwise positive. */
+  public double getOmegaRadPerSec() {
+    return m_chassisSpeeds.omegaRadiansPerSecond;
+  }
+
+  /** Returns the estimated field X position in meters. */
+  public double getPoseX() {
+    return getPose().getX();
+  }
+
+  /** Returns the estimated field Y position in meters. */
+  public double getPoseY() {
+    return getPose().getY();
+  }
+
+  /** Returns the estimated heading in radians. */
+  public double getPoseTheta() {
+    return getPose().getRotation().getRadians();
   }
 
   /**
@@ -420,7 +371,9 @@ public class DriveSubsystem extends SubsystemBase {
    * vy is always 0 as we are not strafing.
    */
   public void setSpeeds(ChassisSpeeds speeds) {
-    setWheelVelocities(DriveConstants.kDriveKinematics.toWheelSpeeds(speeds));
+    // Inverse kinematics, as DifferentialDriveKinematics.toWheelSpeeds, without the allocation
+    double turn = speeds.omegaRadiansPerSecond * DriveConstants.kTrackwidthMeters / 2.0;
+    setWheelVelocities(speeds.vxMetersPerSecond - turn, speeds.vxMetersPerSecond + turn);
   }
 
   /**
@@ -428,30 +381,53 @@ public class DriveSubsystem extends SubsystemBase {
    * of the robot.
    */
   public void setWheelVelocities(DifferentialDriveWheelSpeeds speeds) {
-    // get left and right speeds in m/s, and run through feedforward to get feedforward voltage
-    // offset
-    double leftSpeed = speeds.leftMetersPerSecond;
-    double rightSpeed = speeds.rightMetersPerSecond;
-    // set to position of motors
-    m_backLeftPIDController.setSetpoint(
+    setWheelVelocities(speeds.leftMetersPerSecond, speeds.rightMetersPerSecond);
+  }
+
+  /**
+   * Sets each side's velocity in m/s.
+   *
+   * @param leftSpeed Left wheel speed
+   * @param rightSpeed Right wheel speed
+   */
+  public void setWheelVelocities(double leftSpeed, double rightSpeed) {
+    setWheelVelocities(leftSpeed, rightSpeed, 0.0, 0.0);
+  }
+
+  /**
+   * Sets each side's velocity in m/s, adding the feedforward for the given acceleration so the
+   * velocity loop does not lag behind a ramping setpoint.
+   *
+   * @param leftSpeed Left wheel speed
+   * @param rightSpeed Right wheel speed
+   * @param leftAccel Left wheel acceleration in m/s^2
+   * @param rightAccel Right wheel acceleration in m/s^2
+   */
+  public void setWheelVelocities(
+      double leftSpeed, double rightSpeed, double leftAccel, double rightAccel) {
+    if (TweakConstants.ENABLE_TRACTION_CONTROL) {
+      double leftScale = m_traction.getLeftOutputScale();
+      double rightScale = m_traction.getRightOutputScale();
+      leftSpeed *= leftScale;
+      rightSpeed *= rightScale;
+      leftAccel *= leftScale;
+      rightAccel *= rightScale;
+    }
+    // run through feedforward to get feedforward voltage offset
+    double ka = m_driveFeedForward.getKa();
+    m_io.setVelocity(
         leftSpeed,
-        SparkBase.ControlType.kVelocity,
-        DriveConstants.kDrivetrainVelocityPIDSlot,
-        m_driveFeedForward.calculate(leftSpeed));
-    m_backRightPIDController.setSetpoint(
         rightSpeed,
-        SparkBase.ControlType.kVelocity,
-        DriveConstants.kDrivetrainVelocityPIDSlot,
-        m_driveFeedForward.calculate(rightSpeed));
+        m_driveFeedForward.calculate(leftSpeed) + ka * leftAccel,
+        m_driveFeedForward.calculate(rightSpeed) + ka * rightAccel);
+    // Velocity control bypasses DifferentialDrive, so keep its motor safety from stopping us
+    m_ddrive.feed();
   }
 
   // in meters, use averageDistance() to get average distance traveled, as an offset to set this
   // function.
   public void driveToPosition(final double NewPosition) {
-    m_backLeftPIDController.setSetpoint(
-        NewPosition, SparkBase.ControlType.kPosition, DriveConstants.kDrivetrainPositionPIDSlot);
-    m_backRightPIDController.setSetpoint(
-        NewPosition, SparkBase.ControlType.kPosition, DriveConstants.kDrivetrainPositionPIDSlot);
+    m_io.setPosition(NewPosition, NewPosition);
   }
 
   public Pose2d getPose() {
@@ -467,52 +443,31 @@ public class DriveSubsystem extends SubsystemBase {
   }
 
   public void resetEncoders() {
-    m_encoderBackLeft.setPosition(0);
-    m_encoderFrontLeft.setPosition(0);
-    m_encoderBackRight.setPosition(0);
-    m_encoderFrontRight.setPosition(0);
+    m_io.resetEncoders();
   }
 
   public double currentDistance() {
-    return getPose().getTranslation().getX();
+    return getPoseX();
   }
 
+  // Idle mode changes are sent in the background; the drive inputs show when they land
   public void SetBrakemode() {
-    m_backLeftConfig.idleMode(IdleMode.kBrake);
-    m_backRightConfig.idleMode(IdleMode.kBrake);
-    m_frontLeftConfig.idleMode(IdleMode.kBrake);
-    m_frontRightConfig.idleMode(IdleMode.kBrake);
-    // reburn configs during runtime
-    m_backLeft.configure(
-        m_backLeftConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    m_frontLeft.configure(
-        m_frontLeftConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    m_backRight.configure(
-        m_backRightConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    m_frontRight.configure(
-        m_frontRightConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    isBrakeMode = true;
+    m_io.setBrakeMode(true);
   }
 
   public void SetCoastmode() {
-    m_backLeftConfig.idleMode(IdleMode.kCoast);
-    m_backRightConfig.idleMode(IdleMode.kCoast);
-    m_frontLeftConfig.idleMode(IdleMode.kCoast);
-    m_frontRightConfig.idleMode(IdleMode.kCoast);
-    // reburn configs during runtime
-    m_backLeft.configure(
-        m_backLeftConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    m_frontLeft.configure(
-        m_frontLeftConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    m_backRight.configure(
-        m_backRightConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    m_frontRight.configure(
-        m_frontRightConfig, ResetMode.kNoResetSafeParameters, PersistMode.kPersistParameters);
-    isBrakeMode = false;
+    m_io.setBrakeMode(false);
   }
 
+  /** Returns whether the controllers have confirmed brake mode. */
+  public boolean isBrakeMode() {
+    return m_inputs.brakeModeApplied;
+  }
+
+  // Toggles from the last requested mode, so a press while a change is still being sent, or after
+  // one failed, still flips it
   public void SwitchBrakemode() {
-    if (this.isBrakeMode) {
+    if (m_inputs.brakeModeRequested) {
       this.SetCoastmode();
     } else {
       this.SetBrakemode();
@@ -525,8 +480,9 @@ public class DriveSubsystem extends SubsystemBase {
    * @param pose The pose to which to set the odometry.
    */
   public void resetPose(Pose2d pose) {
-    resetEncoders();
-    m_driveOdometry.resetPosition(getRotation2d(), getPositionLeft(), getPositionRight(), pose);
+    // Re-anchored at the current encoder readings rather than zeroing the encoders, so the reset
+    // does not depend on the zeroing reaching the controllers before the next read, and replays
+    m_driveOdometry.resetPosition(getRotation2d(), getOdometryLeft(), getOdometryRight(), pose);
   }
 
   public void stop() {
@@ -534,68 +490,190 @@ public class DriveSubsystem extends SubsystemBase {
   }
 
   public Rotation2d getRotation2d() {
-    return m_Gyro.getRotation2d();
+    // navX angles are clockwise positive
+    return Rotation2d.fromDegrees(-m_inputs.gyroAngleDegrees);
   }
 
   // for balance correction
   public double getPitch() {
-    return m_Gyro.getPitch(); // get pitch in degrees
+    return m_inputs.gyroPitchDegrees;
   }
 
   // for PID control (turn by degrees)
   public double getAccumYaw() {
-    return m_Gyro.getAngle(); // get angle in degrees
+    return m_inputs.gyroAngleDegrees;
   }
 
   public double getYaw() {
-    return m_Gyro.getYaw();
+    return m_inputs.gyroYawDegrees;
   }
 
   public void resetGyro() {
-    m_Gyro.reset();
+    m_io.resetGyro();
   }
 
   public double getVelocityLeft() {
-    return m_encoderBackLeft.getVelocity();
+    return m_inputs.leftVelocityMetersPerSec;
   }
 
   public double getVelocityRight() {
-    return m_encoderBackRight.getVelocity();
+    return m_inputs.rightVelocityMetersPerSec;
   }
 
   public double getPositionLeft() {
-    return m_encoderBackLeft.getPosition();
+    return m_inputs.leftPositionMeters;
   }
 
   public double getPositionRight() {
-    return m_encoderBackRight.getPosition();
+    return m_inputs.rightPositionMeters;
+  }
+
+  // Travel traction control found to be wheel slip; ignored until traction control is enabled
+  private double getLeftCorrection() {
+    return TweakConstants.ENABLE_TRACTION_CONTROL ? m_traction.getLeftDistanceCorrection() : 0.0;
+  }
+
+  private double getRightCorrection() {
+    return TweakConstants.ENABLE_TRACTION_CONTROL ? m_traction.getRightDistanceCorrection() : 0.0;
+  }
+
+  // Encoder positions less the travel traction control found to be wheel slip
+  private double getOdometryLeft() {
+    return getPositionLeft() - getLeftCorrection();
+  }
+
+  private double getOdometryRight() {
+    return getPositionRight() - getRightCorrection();
+  }
+
+  /** Returns the traction monitor, for commands that react to slip or pushing. */
+  public TractionControl getTraction() {
+    return m_traction;
+  }
+
+  /**
+   * Feeds every high-rate odometry sample taken since the last loop into the pose estimator at its
+   * own timestamp, and publishes how many there were and how evenly they were spaced. Falls back to
+   * a single update from this loop's inputs when the IO has no sampling thread.
+   */
+  private void updateOdometry() {
+    double leftCorrection = getLeftCorrection();
+    double rightCorrection = getRightCorrection();
+    int count = m_inputs.odometrySampleCount;
+    if (count == 0) {
+      m_driveOdometry.update(getRotation2d(), getOdometryLeft(), getOdometryRight());
+      m_appliedLeftCorrection = leftCorrection;
+      m_appliedRightCorrection = rightCorrection;
+      return;
+    }
+    // The slip found this loop happened across all of its samples, so ramp the correction in
+    // rather than stepping the first sample by the whole amount
+    double leftStep = (leftCorrection - m_appliedLeftCorrection) / count;
+    double rightStep = (rightCorrection - m_appliedRightCorrection) / count;
+    double maxJitter = 0.0;
+    for (int i = 0; i < count; i++) {
+      double timestamp = m_inputs.odometryTimestamps[i];
+      if (m_lastOdometryTimestamp > 0) {
+        double jitter = Math.abs(timestamp - m_lastOdometryTimestamp - Constants.ODOMETRY_PERIOD);
+        maxJitter = Math.max(maxJitter, jitter);
+      }
+      m_lastOdometryTimestamp = timestamp;
+      m_driveOdometry.updateWithTime(
+          timestamp,
+          Rotation2d.fromDegrees(-m_inputs.odometryGyroAnglesDegrees[i]),
+          m_inputs.odometryLeftPositionsMeters[i] - (m_appliedLeftCorrection + leftStep * (i + 1)),
+          m_inputs.odometryRightPositionsMeters[i]
+              - (m_appliedRightCorrection + rightStep * (i + 1)));
+    }
+    m_appliedLeftCorrection = leftCorrection;
+    m_appliedRightCorrection = rightCorrection;
+    m_odometrySamplesTelemetry.set(count);
+    m_odometryJitterTelemetry.set(maxJitter * 1e6);
+  }
+
+  /**
+   * Checks for wheel slip and, while slipping, lets vision outweigh odometry in the pose estimator.
+   * Runs before odometry so this loop's samples get this loop's correction. While {@link
+   * TweakConstants#ENABLE_TRACTION_CONTROL} is off, slip is only reported.
+   */
+  private void updateTraction() {
+    // Measured rather than nominal, so an overrunning loop does not read as doubled acceleration.
+    // Logger's timestamp is the logged loop time, so this replays exactly
+    double now = Logger.getTimestamp() / 1e6;
+    double dt = now - m_lastTractionTime;
+    if (m_lastTractionTime == 0.0 || dt <= 0.0) {
+      dt = TimedRobot.kDefaultPeriod;
+    }
+    m_lastTractionTime = now;
+    m_traction.update(m_inputs, dt);
+    boolean slipping = TweakConstants.ENABLE_TRACTION_CONTROL && m_traction.isSlipping();
+    if (slipping != m_visionTrustRaised) {
+      m_visionTrustRaised = slipping;
+      m_driveOdometry.setVisionMeasurementStdDevs(slipping ? m_slipVisionStdDevs : m_visionStdDevs);
+    }
+    m_leftSlipTelemetry.set(m_traction.isLeftSlipping());
+    m_rightSlipTelemetry.set(m_traction.isRightSlipping());
+    m_pushingTelemetry.set(m_traction.isPushing());
+    m_leftCorrectionTelemetry.set(m_traction.getLeftDistanceCorrection());
+    m_rightCorrectionTelemetry.set(m_traction.getRightDistanceCorrection());
+  }
+
+  /** Refills the reused wheel and chassis speeds from this loop's encoder velocities. */
+  private void updateKinematics() {
+    double left = getVelocityLeft();
+    double right = getVelocityRight();
+    m_wheelSpeeds.leftMetersPerSecond = left;
+    m_wheelSpeeds.rightMetersPerSecond = right;
+    // Forward kinematics, as DifferentialDriveKinematics.toChassisSpeeds
+    m_chassisSpeeds.vxMetersPerSecond = (left + right) / 2.0;
+    m_chassisSpeeds.vyMetersPerSecond = 0.0;
+    m_chassisSpeeds.omegaRadiansPerSecond = (right - left) / DriveConstants.kTrackwidthMeters;
   }
 
   @Override
   public void periodic() {
-    if (gyroZeroPending && !m_Gyro.isCalibrating()) {
+    m_periodicPhase.start();
+    m_io.updateInputs(m_inputs);
+    Logger.processInputs("Drive", m_inputs);
+    if (gyroZeroPending && !m_inputs.gyroCalibrating) {
       resetGyro();
       gyroZeroPending = false;
     }
     // This method will be called once per scheduler run
-    RobotTelemetry.putNumber("Average Distance Traveled", currentDistance());
-    RobotTelemetry.putNumber("Current Gyro Yaw", getYaw());
-    RobotTelemetry.putBoolean("Gyro Calibrating", m_Gyro.isCalibrating());
-    // Update the odometry in the periodic block
-    m_driveOdometry.update(getRotation2d(), getPositionLeft(), getPositionRight());
-    field.setRobotPose(getPose());
-    RobotTelemetry.recordOutput("RobotPose", getPose());
-    RobotTelemetry.recordOutput("DriveLeftMotorPositionRotations", m_encoderBackLeft.getPosition());
-    RobotTelemetry.recordOutput(
-        "DriveRightMotorPositionRotations", m_encoderBackRight.getPosition());
-    RobotTelemetry.recordOutput("DriveLeftMotorVelocityRPM", m_encoderBackLeft.getVelocity());
-    RobotTelemetry.recordOutput("DriveRightMotorVelocityRPM", m_encoderBackRight.getVelocity());
-  }
-
-  @Override
-  public void simulationPeriodic() {
-    if (m_driveSim != null) {
-      m_driveSim.update();
+    // Share the inputs read above with odometry, telemetry and RobotState
+    m_snapshot.leftPositionRotations = getPositionLeft();
+    m_snapshot.rightPositionRotations = getPositionRight();
+    m_snapshot.leftVelocityRPM = getVelocityLeft();
+    m_snapshot.rightVelocityRPM = getVelocityRight();
+    m_snapshot.yawDegrees = getYaw();
+    m_snapshot.gyroCalibrating = m_inputs.gyroCalibrating;
+    m_snapshot.brakeMode = m_inputs.brakeModeApplied;
+    updateTraction();
+    updateOdometry();
+    updateKinematics();
+    Pose2d pose = getPose();
+    RobotState.updateDrive(pose, m_chassisSpeeds);
+    m_snapshot.poseX = pose.getX();
+    m_snapshot.poseY = pose.getY();
+    m_snapshot.poseHeadingRadians = pose.getRotation().getRadians();
+    // Field2d builds a new array on every set, so only publish when the robot has moved
+    if (m_snapshot.poseX != m_fieldPoseX
+        || m_snapshot.poseY != m_fieldPoseY
+        || m_snapshot.poseHeadingRadians != m_fieldPoseTheta) {
+      field.setRobotPose(pose);
+      m_fieldPoseX = m_snapshot.poseX;
+      m_fieldPoseY = m_snapshot.poseY;
+      m_fieldPoseTheta = m_snapshot.poseHeadingRadians;
     }
+    RobotTelemetry.recordOutput("RobotPose", pose);
+    m_distanceTelemetry.set(m_snapshot.poseX);
+    m_yawTelemetry.set(m_snapshot.yawDegrees);
+    m_gyroCalibratingTelemetry.set(m_snapshot.gyroCalibrating);
+    m_leftPositionTelemetry.set(m_snapshot.leftPositionRotations);
+    m_rightPositionTelemetry.set(m_snapshot.rightPositionRotations);
+    m_leftVelocityTelemetry.set(m_snapshot.leftVelocityRPM);
+    m_rightVelocityTelemetry.set(m_snapshot.rightVelocityRPM);
+    m_snapshotTelemetry.set(m_snapshot);
+    m_periodicPhase.stop();
   }
 }
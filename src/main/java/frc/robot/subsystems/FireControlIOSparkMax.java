@@ -7,6 +7,7 @@ import com.revrobotics.spark.SparkClosedLoopController;
 import com.revrobotics.spark.SparkLowLevel.MotorType;
 import com.revrobotics.spark.SparkMax;
 import com.revrobotics.spark.config.SparkMaxConfig;
+import frc.robot.RobotStartup;
 import frc.robot.constants.Constants.CANConstants;
 
 public class FireControlIOSparkMax implements FireControlIO {
@@ -22,7 +23,16 @@ public class FireControlIOSparkMax implements FireControlIO {
     config.closedLoop.pid(0.0001, 0, 0);
     config.closedLoop.outputRange(0, 1.0);
 
-    m_fireMotor.configure(config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
+    if (frc.robot.constants.TweakConstants.ENABLE_FAST_CONTROL_LOOPS) {
+      // Velocity frames at the fast loop rate so each control step sees a fresh sample
+      config.signals.primaryEncoderVelocityPeriodMs(5);
+    }
+
+    RobotStartup.submit(
+        "FireControl/configure",
+        () ->
+            m_fireMotor.configure(
+                config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
 
     m_pidController = m_fireMotor.getClosedLoopController();
   }
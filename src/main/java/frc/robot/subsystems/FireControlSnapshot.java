@@ -0,0 +1,21 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import frc.robot.utils.SnapshotStruct;
+
+/** Struct-serialized flywheel state, published once per loop by {@link FireControlSubsystem}. */
+public class FireControlSnapshot implements StructSerializable {
+  /** Flywheel velocity. */
+  public double velocityRPM;
+  /** Flywheel motor applied voltage. */
+  public double appliedVolts;
+  /** Flywheel motor current. */
+  public double currentAmps;
+
+  /** Struct serializer for {@link FireControlSnapshot}. */
+  public static final SnapshotStruct<FireControlSnapshot> struct =
+      new SnapshotStruct<>(FireControlSnapshot.class, FireControlSnapshot::new)
+          .addDouble("velocityRPM", s -> s.velocityRPM, (s, v) -> s.velocityRPM = v)
+          .addDouble("appliedVolts", s -> s.appliedVolts, (s, v) -> s.appliedVolts = v)
+          .addDouble("currentAmps", s -> s.currentAmps, (s, v) -> s.currentAmps = v);
+}
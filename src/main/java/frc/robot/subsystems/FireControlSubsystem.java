@@ -2,6 +2,9 @@ package frc.robot.subsystems;
 
 import edu.wpi.first.math.controller.SimpleMotorFeedforward;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.FastLoopExecutor;
+import frc.robot.LoopProfiler;
+import frc.robot.RobotState;
 import frc.robot.RobotTelemetry;
 import org.littletonrobotics.junction.Logger;
 
@@ -10,6 +13,37 @@ public class FireControlSubsystem extends SubsystemBase {
   private final FireControlIOInputsAutoLogged m_inputs = new FireControlIOInputsAutoLogged();
   private final SimpleMotorFeedforward m_feedforward;
   private final edu.wpi.first.math.filter.SlewRateLimiter m_spinDownLimiter;
+  // True once the motor has been told to stop; touched only by the thread that drives m_io
+  private boolean m_motorStopped = true;
+
+  // Fast control handoff. With fast control on, only the loop thread touches m_io and the spin-down
+  // limiter; commands leave the target here and periodic() picks up the latest inputs. Guarded by
+  // m_lock.
+  private boolean m_fastControl = false;
+  private final Object m_lock = new Object();
+  private final FireControlIO.FireControlIOInputs m_latestInputs =
+      new FireControlIO.FireControlIOInputs();
+  private double m_targetRPM = 0.0;
+  private boolean m_stopRequested = true;
+  // Loop thread only
+  private final FireControlIO.FireControlIOInputs m_loopInputs =
+      new FireControlIO.FireControlIOInputs();
+
+  // Telemetry
+  private final RobotTelemetry.NumberHandle m_motorOutputTelemetry =
+      RobotTelemetry.numberHandle("Fire Motor Speed Output").withTier(RobotTelemetry.Tier.DEBUG);
+  private final RobotTelemetry.NumberHandle m_rpmTelemetry =
+      RobotTelemetry.numberHandle("Fire Motor RPM", 1.0);
+  private final RobotTelemetry.BooleanHandle m_simFiringTelemetry =
+      RobotTelemetry.booleanHandle("Sim_IsFiring").withTier(RobotTelemetry.Tier.DEBUG);
+  private final FireControlSnapshot m_snapshot = new FireControlSnapshot();
+  private final RobotTelemetry.StructHandle<FireControlSnapshot> m_snapshotTelemetry =
+      RobotTelemetry.structHandle("Snapshot/FireControl", FireControlSnapshot.struct);
+
+  // Profiling
+  private final LoopProfiler.Phase m_periodicPhase = LoopProfiler.phase("FireControl/periodic");
+  private final LoopProfiler.Phase m_simulationPhase =
+      LoopProfiler.phase("FireControl/simulationPeriodic");
 
   public FireControlSubsystem(FireControlIO io) {
     m_io = io;
@@ -21,16 +55,36 @@ public class FireControlSubsystem extends SubsystemBase {
     m_spinDownLimiter = new edu.wpi.first.math.filter.SlewRateLimiter(5000.0);
   }
 
+  /**
+   * Moves the flywheel setpoint, spin-down and feedforward onto the {@link FastLoopExecutor}. Call
+   * once at startup, before the executor is started.
+   */
+  public void enableFastControl() {
+    m_fastControl = true;
+    FastLoopExecutor.register(this::fastPeriodic);
+  }
+
   /**
    * Sets the shooter to a specific target RPM.
    *
    * @param targetRPM The target RPM for the flywheel.
    */
   public void setShooterRPM(double targetRPM) {
+    if (!m_fastControl) {
+      applyShooterRPM(targetRPM);
+      return;
+    }
+    synchronized (m_lock) {
+      m_targetRPM = targetRPM;
+      m_stopRequested = false;
+    }
+  }
+
+  private void applyShooterRPM(double targetRPM) {
     if (targetRPM <= 0) {
       targetRPM = m_spinDownLimiter.calculate(0);
       if (targetRPM < 50) {
-        stop();
+        stopMotor();
         return;
       }
     } else {
@@ -40,6 +94,13 @@ public class FireControlSubsystem extends SubsystemBase {
     double feedforwardVoltage = m_feedforward.calculate(targetRPM / 60.0);
 
     m_io.setVelocity(targetRPM, feedforwardVoltage);
+    m_motorStopped = false;
+  }
+
+  private void stopMotor() {
+    m_spinDownLimiter.reset(0);
+    m_io.stop();
+    m_motorStopped = true;
   }
 
   /**
@@ -56,23 +117,72 @@ public class FireControlSubsystem extends SubsystemBase {
 
   /** Stops the fire motor. */
   public void stop() {
-    m_spinDownLimiter.reset(0);
-    m_io.stop();
+    if (!m_fastControl) {
+      stopMotor();
+      return;
+    }
+    synchronized (m_lock) {
+      m_targetRPM = 0.0;
+      m_stopRequested = true;
+    }
+  }
+
+  /** Fast control step: samples inputs and re-applies the setpoint with a fresh spin-down step. */
+  private void fastPeriodic() {
+    m_io.updateInputs(m_loopInputs);
+    double targetRPM;
+    boolean stopRequested;
+    synchronized (m_lock) {
+      copyInputs(m_loopInputs, m_latestInputs);
+      targetRPM = m_targetRPM;
+      stopRequested = m_stopRequested;
+    }
+    if (stopRequested || (targetRPM <= 0 && m_motorStopped)) {
+      if (!m_motorStopped) {
+        stopMotor();
+      }
+      return;
+    }
+    applyShooterRPM(targetRPM);
+  }
+
+  private static void copyInputs(
+      FireControlIO.FireControlIOInputs from, FireControlIO.FireControlIOInputs to) {
+    to.appliedVolts = from.appliedVolts;
+    to.currentAmps = from.currentAmps;
+    to.velocityRPM = from.velocityRPM;
   }
 
   @Override
   public void periodic() {
-    m_io.updateInputs(m_inputs);
+    m_periodicPhase.start();
+    if (m_fastControl) {
+      synchronized (m_lock) {
+        copyInputs(m_latestInputs, m_inputs);
+      }
+    } else {
+      m_io.updateInputs(m_inputs);
+    }
     Logger.processInputs("FireControl", m_inputs);
 
     // Debugging current fire motor speed and RPM
-    RobotTelemetry.putNumber("Fire Motor Speed Output", m_inputs.appliedVolts / 12.0);
-    RobotTelemetry.putNumber("Fire Motor RPM", m_inputs.velocityRPM);
+    m_motorOutputTelemetry.set(m_inputs.appliedVolts / 12.0);
+    m_rpmTelemetry.set(m_inputs.velocityRPM);
+
+    RobotState.updateFlywheel(m_inputs.velocityRPM);
+
+    m_snapshot.velocityRPM = m_inputs.velocityRPM;
+    m_snapshot.appliedVolts = m_inputs.appliedVolts;
+    m_snapshot.currentAmps = m_inputs.currentAmps;
+    m_snapshotTelemetry.set(m_snapshot);
+    m_periodicPhase.stop();
   }
 
   @Override
   public void simulationPeriodic() {
+    m_simulationPhase.start();
     // Broadcast for Python App
-    RobotTelemetry.putBoolean("Sim_IsFiring", Math.abs(m_inputs.appliedVolts) > 1.2);
+    m_simFiringTelemetry.set(Math.abs(m_inputs.appliedVolts) > 1.2);
+    m_simulationPhase.stop();
   }
 }
@@ -5,6 +5,7 @@ import com.revrobotics.spark.SparkBase.ResetMode;
 import com.revrobotics.spark.SparkLowLevel.MotorType;
 import com.revrobotics.spark.SparkMax;
 import com.revrobotics.spark.config.SparkMaxConfig;
+import frc.robot.RobotStartup;
 import frc.robot.constants.Constants.CANConstants;
 
 public class IntakeIOSparkMax implements IntakeIO {
@@ -21,12 +22,21 @@ public class IntakeIOSparkMax implements IntakeIO {
     config.idleMode(SparkMaxConfig.IdleMode.kCoast);
     config.openLoopRampRate(0.25);
 
-    m_intakeMotorMain.configure(
-        config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-
-    config.follow(m_intakeMotorMain);
-    m_intakeMotorSecondary.configure(
-        config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
+    SparkMaxConfig followerConfig = new SparkMaxConfig();
+    followerConfig.apply(config);
+    followerConfig.follow(m_intakeMotorMain);
+
+    // Each motor gets its own config object so both writes can run concurrently
+    RobotStartup.submit(
+        "Intake/configureMain",
+        () ->
+            m_intakeMotorMain.configure(
+                config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
+    RobotStartup.submit(
+        "Intake/configureSecondary",
+        () ->
+            m_intakeMotorSecondary.configure(
+                followerConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
   }
 
   @Override
@@ -0,0 +1,24 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import frc.robot.utils.SnapshotStruct;
+
+/** Struct-serialized intake state, published once per loop by {@link IntakeSubsystem}. */
+public class IntakeSnapshot implements StructSerializable {
+  /** Intake motor applied voltage. */
+  public double appliedVolts;
+  /** Intake motor current. */
+  public double currentAmps;
+  /** Intake motor velocity. */
+  public double velocityRPM;
+  /** True while a jam is being cleared. */
+  public boolean jammed;
+
+  /** Struct serializer for {@link IntakeSnapshot}. */
+  public static final SnapshotStruct<IntakeSnapshot> struct =
+      new SnapshotStruct<>(IntakeSnapshot.class, IntakeSnapshot::new)
+          .addDouble("appliedVolts", s -> s.appliedVolts, (s, v) -> s.appliedVolts = v)
+          .addDouble("currentAmps", s -> s.currentAmps, (s, v) -> s.currentAmps = v)
+          .addDouble("velocityRPM", s -> s.velocityRPM, (s, v) -> s.velocityRPM = v)
+          .addBoolean("jammed", s -> s.jammed, (s, v) -> s.jammed = v);
+}
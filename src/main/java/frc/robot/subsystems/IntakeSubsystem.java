@@ -2,6 +2,8 @@ package frc.robot.subsystems;
 
 import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.AlertBus;
+import frc.robot.LoopProfiler;
 import frc.robot.RobotTelemetry;
 import frc.robot.constants.SpeedConstants;
 import org.littletonrobotics.junction.Logger;
@@ -18,6 +20,22 @@ public class IntakeSubsystem extends SubsystemBase {
   private static final double STALL_TIME_THRESHOLD = 0.5; // Seconds to consider perfectly stalled
   private static final double REVERSE_TIME = 1.0; // Seconds to reverse after a stall
 
+  // Telemetry
+  private final RobotTelemetry.NumberHandle m_currentTelemetry =
+      RobotTelemetry.numberHandle("Intake Current (A)", 0.1)
+          .withTier(RobotTelemetry.Tier.PIT)
+          .withMaxRate(10.0);
+  private final IntakeSnapshot m_snapshot = new IntakeSnapshot();
+  private final RobotTelemetry.StructHandle<IntakeSnapshot> m_snapshotTelemetry =
+      RobotTelemetry.structHandle("Snapshot/Intake", IntakeSnapshot.struct);
+
+  // Alerts
+  private final AlertBus.Alert m_jammedAlert =
+      AlertBus.alert("Intake Jammed", AlertBus.Severity.WARNING, "Intake jammed, reversing");
+
+  // Profiling
+  private final LoopProfiler.Phase m_periodicPhase = LoopProfiler.phase("Intake/periodic");
+
   @SuppressWarnings("removal")
   public IntakeSubsystem(IntakeIO io) {
     m_io = io;
@@ -45,11 +63,12 @@ public class IntakeSubsystem extends SubsystemBase {
 
   @Override
   public void periodic() {
+    m_periodicPhase.start();
     m_io.updateInputs(m_inputs);
     Logger.processInputs("Intake", m_inputs);
 
     double current = m_inputs.mainMotorCurrentAmps;
-    RobotTelemetry.putNumber("Intake Current (A)", current);
+    m_currentTelemetry.set(current);
 
     if (m_isStalled) {
       if (m_stallTimer.hasElapsed(REVERSE_TIME)) {
@@ -68,12 +87,19 @@ public class IntakeSubsystem extends SubsystemBase {
           // Jam detected!
           m_isStalled = true;
           m_stallTimer.restart();
-          RobotTelemetry.putBoolean("Intake Jammed", true);
+          m_jammedAlert.set(true);
         }
       } else {
         m_stallTimer.restart();
-        RobotTelemetry.putBoolean("Intake Jammed", false);
+        m_jammedAlert.set(false);
       }
     }
+
+    m_snapshot.appliedVolts = m_inputs.mainMotorAppliedVolts;
+    m_snapshot.currentAmps = current;
+    m_snapshot.velocityRPM = m_inputs.mainMotorVelocityRPM;
+    m_snapshot.jammed = m_isStalled;
+    m_snapshotTelemetry.set(m_snapshot);
+    m_periodicPhase.stop();
   }
 }
@@ -5,6 +5,7 @@ import com.revrobotics.spark.SparkBase.ResetMode;
 import com.revrobotics.spark.SparkLowLevel.MotorType;
 import com.revrobotics.spark.SparkMax;
 import com.revrobotics.spark.config.SparkMaxConfig;
+import frc.robot.RobotStartup;
 import frc.robot.constants.Constants.CANConstants;
 
 public class LoaderIOSparkMax implements LoaderIO {
@@ -22,14 +23,26 @@ public class LoaderIOSparkMax implements LoaderIO {
     config.idleMode(SparkMaxConfig.IdleMode.kBrake);
     config.smartCurrentLimit(30);
 
-    m_loaderMotor1.configure(
-        config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
+    SparkMaxConfig followerConfig = new SparkMaxConfig();
+    followerConfig.apply(config);
+    followerConfig.follow(m_loaderMotor1);
 
-    config.follow(m_loaderMotor1);
-    m_loaderMotor2.configure(
-        config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-    m_loaderMotor3.configure(
-        config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
+    // Each motor gets its own config object so the three writes can run concurrently
+    RobotStartup.submit(
+        "Loader/configure1",
+        () ->
+            m_loaderMotor1.configure(
+                config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
+    RobotStartup.submit(
+        "Loader/configure2",
+        () ->
+            m_loaderMotor2.configure(
+                followerConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
+    RobotStartup.submit(
+        "Loader/configure3",
+        () ->
+            m_loaderMotor3.configure(
+                followerConfig, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
   }
 
   @Override
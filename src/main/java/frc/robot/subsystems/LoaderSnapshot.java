@@ -0,0 +1,21 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import frc.robot.utils.SnapshotStruct;
+
+/** Struct-serialized loader state, published once per loop by {@link LoaderSubsystem}. */
+public class LoaderSnapshot implements StructSerializable {
+  /** Loader motor applied voltage. */
+  public double appliedVolts;
+  /** Loader motor current. */
+  public double currentAmps;
+  /** Loader motor velocity. */
+  public double velocityRPM;
+
+  /** Struct serializer for {@link LoaderSnapshot}. */
+  public static final SnapshotStruct<LoaderSnapshot> struct =
+      new SnapshotStruct<>(LoaderSnapshot.class, LoaderSnapshot::new)
+          .addDouble("appliedVolts", s -> s.appliedVolts, (s, v) -> s.appliedVolts = v)
+          .addDouble("currentAmps", s -> s.currentAmps, (s, v) -> s.currentAmps = v)
+          .addDouble("velocityRPM", s -> s.velocityRPM, (s, v) -> s.velocityRPM = v);
+}
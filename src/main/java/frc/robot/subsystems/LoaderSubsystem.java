@@ -2,6 +2,8 @@ package frc.robot.subsystems;
 
 import edu.wpi.first.math.filter.SlewRateLimiter;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.LoopProfiler;
+import frc.robot.RobotTelemetry;
 import frc.robot.constants.SpeedConstants;
 import org.littletonrobotics.junction.Logger;
 
@@ -12,6 +14,14 @@ public class LoaderSubsystem extends SubsystemBase {
   private final LoaderIOInputsAutoLogged m_inputs = new LoaderIOInputsAutoLogged();
   private final SlewRateLimiter m_speedLimiter;
 
+  // Telemetry
+  private final LoaderSnapshot m_snapshot = new LoaderSnapshot();
+  private final RobotTelemetry.StructHandle<LoaderSnapshot> m_snapshotTelemetry =
+      RobotTelemetry.structHandle("Snapshot/Loader", LoaderSnapshot.struct);
+
+  // Profiling
+  private final LoopProfiler.Phase m_periodicPhase = LoopProfiler.phase("Loader/periodic");
+
   public LoaderSubsystem(LoaderIO io) {
     m_io = io;
     // Software Slew Rate Limiter for manual inputs (acceleration cap: full speed in 0.5s)
@@ -48,7 +58,14 @@ public class LoaderSubsystem extends SubsystemBase {
 
   @Override
   public void periodic() {
+    m_periodicPhase.start();
     m_io.updateInputs(m_inputs);
     Logger.processInputs("Loader", m_inputs);
+
+    m_snapshot.appliedVolts = m_inputs.appliedVolts;
+    m_snapshot.currentAmps = m_inputs.currentAmps;
+    m_snapshot.velocityRPM = m_inputs.velocityRPM;
+    m_snapshotTelemetry.set(m_snapshot);
+    m_periodicPhase.stop();
   }
 }
@@ -0,0 +1,177 @@
+package frc.robot.subsystems;
+
+import frc.robot.DriveConstants;
+import frc.robot.constants.Constants;
+
+/**
+ * Detects wheel slip on each side of the drivetrain from the drive inputs, and works out how far to
+ * back off the output and how much wheel travel odometry should ignore.
+ *
+ * <p>A side is slipping when its front and back encoders disagree, when its wheels change speed
+ * faster than the carpet can accelerate the robot, or when the turn rate the wheels imply disagrees
+ * with the gyro and this side is the one turning faster than the gyro allows. The flag is held for
+ * {@link Constants#TRACTION_SLIP_HOLD_TIME} after the last detection so the output does not
+ * chatter.
+ *
+ * <p>While a side slips, the travel its back encoder reports beyond the smallest plausible
+ * measurement (front encoder, or the gyro and the other side) is added to that side's distance
+ * correction, which odometry subtracts. Everything is computed from logged inputs, so it replays.
+ */
+public class TractionControl {
+  private boolean m_initialized = false;
+  private double m_lastLeftVelocity = 0.0;
+  private double m_lastRightVelocity = 0.0;
+  private double m_lastLeftPosition = 0.0;
+  private double m_lastRightPosition = 0.0;
+  private double m_lastLeftFollowerPosition = 0.0;
+  private double m_lastRightFollowerPosition = 0.0;
+
+  private double m_leftHold = 0.0;
+  private double m_rightHold = 0.0;
+  private boolean m_leftSlipping = false;
+  private boolean m_rightSlipping = false;
+  private boolean m_pushing = false;
+  private double m_leftScale = 1.0;
+  private double m_rightScale = 1.0;
+  private double m_leftCorrection = 0.0;
+  private double m_rightCorrection = 0.0;
+
+  /**
+   * Checks this loop's inputs for slip. Called once per loop, after the inputs are read.
+   *
+   * @param inputs This loop's drive inputs
+   * @param dtSeconds Time since the previous call
+   */
+  public void update(DriveIO.DriveIOInputs inputs, double dtSeconds) {
+    double leftVelocity = inputs.leftVelocityMetersPerSec;
+    double rightVelocity = inputs.rightVelocityMetersPerSec;
+    if (!m_initialized) {
+      m_initialized = true;
+      remember(inputs);
+      return;
+    }
+
+    // navX rates are clockwise positive
+    double gyroOmega = -Math.toRadians(inputs.gyroRateDegreesPerSec);
+    double turnError =
+        (rightVelocity - leftVelocity) / DriveConstants.kTrackwidthMeters - gyroOmega;
+    // Each side's speed if the other side were gripping and the gyro is right
+    double leftFromGyro = rightVelocity - gyroOmega * DriveConstants.kTrackwidthMeters;
+    double rightFromGyro = leftVelocity + gyroOmega * DriveConstants.kTrackwidthMeters;
+    boolean yawSlip =
+        inputs.gyroConnected && Math.abs(turnError) > Constants.TRACTION_YAW_RATE_MISMATCH;
+    // Blame the side spinning further past what the gyro allows
+    boolean leftOverspins =
+        Math.abs(leftVelocity) - Math.abs(leftFromGyro)
+            > Math.abs(rightVelocity) - Math.abs(rightFromGyro);
+
+    boolean leftSlip =
+        Math.abs(leftVelocity - inputs.leftFollowerVelocityMetersPerSec)
+                > Constants.TRACTION_ENCODER_MISMATCH
+            || Math.abs(leftVelocity - m_lastLeftVelocity) / dtSeconds
+                > Constants.TRACTION_MAX_WHEEL_ACCELERATION
+            || (yawSlip && leftOverspins);
+    boolean rightSlip =
+        Math.abs(rightVelocity - inputs.rightFollowerVelocityMetersPerSec)
+                > Constants.TRACTION_ENCODER_MISMATCH
+            || Math.abs(rightVelocity - m_lastRightVelocity) / dtSeconds
+                > Constants.TRACTION_MAX_WHEEL_ACCELERATION
+            || (yawSlip && !leftOverspins);
+
+    m_leftHold =
+        leftSlip ? Constants.TRACTION_SLIP_HOLD_TIME : Math.max(0.0, m_leftHold - dtSeconds);
+    m_rightHold =
+        rightSlip ? Constants.TRACTION_SLIP_HOLD_TIME : Math.max(0.0, m_rightHold - dtSeconds);
+    m_leftSlipping = m_leftHold > 0.0;
+    m_rightSlipping = m_rightHold > 0.0;
+    m_leftScale = nextScale(m_leftScale, m_leftSlipping, dtSeconds);
+    m_rightScale = nextScale(m_rightScale, m_rightSlipping, dtSeconds);
+
+    if (m_leftSlipping) {
+      double leader = inputs.leftPositionMeters - m_lastLeftPosition;
+      double follower = inputs.leftFollowerPositionMeters - m_lastLeftFollowerPosition;
+      double fromGyro = inputs.gyroConnected ? leftFromGyro * dtSeconds : leader;
+      m_leftCorrection += leader - closestToZero(leader, follower, fromGyro);
+    }
+    if (m_rightSlipping) {
+      double leader = inputs.rightPositionMeters - m_lastRightPosition;
+      double follower = inputs.rightFollowerPositionMeters - m_lastRightFollowerPosition;
+      double fromGyro = inputs.gyroConnected ? rightFromGyro * dtSeconds : leader;
+      m_rightCorrection += leader - closestToZero(leader, follower, fromGyro);
+    }
+
+    // Drawing high current while held in place, or while spinning the wheels
+    double averageCurrent =
+        (inputs.leftCurrentAmps[0]
+                + inputs.leftCurrentAmps[1]
+                + inputs.rightCurrentAmps[0]
+                + inputs.rightCurrentAmps[1])
+            / 4.0;
+    m_pushing =
+        averageCurrent > Constants.TRACTION_PUSHING_CURRENT
+            && (Math.abs(leftVelocity + rightVelocity) / 2.0 < Constants.TRACTION_PUSHING_SPEED
+                || m_leftSlipping
+                || m_rightSlipping);
+
+    remember(inputs);
+  }
+
+  private void remember(DriveIO.DriveIOInputs inputs) {
+    m_lastLeftVelocity = inputs.leftVelocityMetersPerSec;
+    m_lastRightVelocity = inputs.rightVelocityMetersPerSec;
+    m_lastLeftPosition = inputs.leftPositionMeters;
+    m_lastRightPosition = inputs.rightPositionMeters;
+    m_lastLeftFollowerPosition = inputs.leftFollowerPositionMeters;
+    m_lastRightFollowerPosition = inputs.rightFollowerPositionMeters;
+  }
+
+  // Drops straight to the slip scale, then ramps back up so the wheels do not break free again
+  private static double nextScale(double scale, boolean slipping, double dtSeconds) {
+    if (slipping) {
+      return Constants.TRACTION_SLIP_OUTPUT_SCALE;
+    }
+    return Math.min(1.0, scale + Constants.TRACTION_RECOVERY_RATE * dtSeconds);
+  }
+
+  private static double closestToZero(double a, double b, double c) {
+    double closest = Math.abs(a) < Math.abs(b) ? a : b;
+    return Math.abs(c) < Math.abs(closest) ? c : closest;
+  }
+
+  public boolean isLeftSlipping() {
+    return m_leftSlipping;
+  }
+
+  public boolean isRightSlipping() {
+    return m_rightSlipping;
+  }
+
+  public boolean isSlipping() {
+    return m_leftSlipping || m_rightSlipping;
+  }
+
+  /** Returns whether the drivetrain is pushing against something it cannot move. */
+  public boolean isPushing() {
+    return m_pushing;
+  }
+
+  /** Returns the fraction of the commanded left output to apply, 1 when gripping. */
+  public double getLeftOutputScale() {
+    return m_leftScale;
+  }
+
+  /** Returns the fraction of the commanded right output to apply, 1 when gripping. */
+  public double getRightOutputScale() {
+    return m_rightScale;
+  }
+
+  /** Returns the total left wheel travel, in meters, that odometry should ignore. */
+  public double getLeftDistanceCorrection() {
+    return m_leftCorrection;
+  }
+
+  /** Returns the total right wheel travel, in meters, that odometry should ignore. */
+  public double getRightDistanceCorrection() {
+    return m_rightCorrection;
+  }
+}
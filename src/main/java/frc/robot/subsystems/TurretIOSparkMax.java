@@ -7,6 +7,7 @@ import com.revrobotics.spark.SparkClosedLoopController;
 import com.revrobotics.spark.SparkLowLevel.MotorType;
 import com.revrobotics.spark.SparkMax;
 import com.revrobotics.spark.config.SparkMaxConfig;
+import frc.robot.RobotStartup;
 import frc.robot.constants.Constants.CANConstants;
 
 public class TurretIOSparkMax implements TurretIO {
@@ -28,7 +29,16 @@ public class TurretIOSparkMax implements TurretIO {
     config.closedLoop.maxMotion.maxAcceleration(500);
     config.closedLoop.maxMotion.allowedClosedLoopError(0.5);
 
-    m_turretMotor.configure(config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
+    if (frc.robot.constants.TweakConstants.ENABLE_FAST_CONTROL_LOOPS) {
+      // Position frames at the fast loop rate so the unwind check sees a fresh angle
+      config.signals.primaryEncoderPositionPeriodMs(5);
+    }
+
+    RobotStartup.submit(
+        "Turret/configure",
+        () ->
+            m_turretMotor.configure(
+                config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters));
 
     m_pidController = m_turretMotor.getClosedLoopController();
   }
@@ -0,0 +1,27 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.util.struct.StructSerializable;
+import frc.robot.utils.SnapshotStruct;
+
+/** Struct-serialized turret state, published once per loop by {@link TurretSubsystem}. */
+public class TurretSnapshot implements StructSerializable {
+  /** Robot-relative turret angle, in degrees. */
+  public double angleDegrees;
+  /** Turret motor applied voltage. */
+  public double appliedVolts;
+  /** Turret motor current. */
+  public double currentAmps;
+  /** Turret motor velocity. */
+  public double velocityRPM;
+  /** True while the turret is auto-unwinding. */
+  public boolean unwinding;
+
+  /** Struct serializer for {@link TurretSnapshot}. */
+  public static final SnapshotStruct<TurretSnapshot> struct =
+      new SnapshotStruct<>(TurretSnapshot.class, TurretSnapshot::new)
+          .addDouble("angleDegrees", s -> s.angleDegrees, (s, v) -> s.angleDegrees = v)
+          .addDouble("appliedVolts", s -> s.appliedVolts, (s, v) -> s.appliedVolts = v)
+          .addDouble("currentAmps", s -> s.currentAmps, (s, v) -> s.currentAmps = v)
+          .addDouble("velocityRPM", s -> s.velocityRPM, (s, v) -> s.velocityRPM = v)
+          .addBoolean("unwinding", s -> s.unwinding, (s, v) -> s.unwinding = v);
+}
@@ -2,10 +2,14 @@ package frc.robot.subsystems;
 
 import edu.wpi.first.math.filter.SlewRateLimiter;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import frc.robot.FastLoopExecutor;
+import frc.robot.LoopProfiler;
+import frc.robot.RobotState;
 import frc.robot.RobotTelemetry;
 import frc.robot.constants.Constants;
 import frc.robot.constants.SpeedConstants;
 import frc.robot.constants.TweakConstants;
+import org.littletonrobotics.junction.AutoLog;
 import org.littletonrobotics.junction.Logger;
 
 public class TurretSubsystem extends SubsystemBase {
@@ -13,7 +17,52 @@ public class TurretSubsystem extends SubsystemBase {
   private final TurretIOInputsAutoLogged m_inputs = new TurretIOInputsAutoLogged();
   private final SlewRateLimiter m_speedLimiter;
 
+  /** Control state decided outside the IO, logged so replay sees the same decisions. */
+  @AutoLog
+  public static class TurretControlInputs {
+    public boolean unwinding = false;
+  }
+
+  // Unwinding as of this loop's logged inputs; main thread only
+  private final TurretControlInputsAutoLogged m_controlInputs = new TurretControlInputsAutoLogged();
   private boolean m_isUnwinding = false;
+  private boolean m_wasUnwinding = false;
+
+  /** Latest motor request from the command layer. */
+  private enum Demand {
+    STOP,
+    VOLTAGE,
+    POSITION
+  }
+
+  // Fast control handoff. With fast control on, only the loop thread touches m_io; commands leave
+  // their demand here and periodic() picks up the latest inputs. Guarded by m_lock.
+  private boolean m_fastControl = false;
+  private final Object m_lock = new Object();
+  private final TurretIO.TurretIOInputs m_latestInputs = new TurretIO.TurretIOInputs();
+  private boolean m_latestUnwinding = false;
+  private Demand m_demand = Demand.STOP;
+  private double m_demandValue = 0.0;
+  // Bumped on every new demand, so the loop thread can tell which one it last applied
+  private long m_demandSequence = 0;
+  // Loop thread only
+  private final TurretIO.TurretIOInputs m_loopInputs = new TurretIO.TurretIOInputs();
+  private boolean m_loopUnwinding = false;
+  private long m_appliedSequence = 0;
+
+  // Telemetry
+  private final RobotTelemetry.NumberHandle m_motorOutputTelemetry =
+      RobotTelemetry.numberHandle("Turret Motor Speed Output").withTier(RobotTelemetry.Tier.DEBUG);
+  private final RobotTelemetry.NumberHandle m_positionTelemetry =
+      RobotTelemetry.numberHandle("Turret Position");
+  private final RobotTelemetry.BooleanHandle m_unwindingTelemetry =
+      RobotTelemetry.booleanHandle("Turret Is Unwinding");
+  private final TurretSnapshot m_snapshot = new TurretSnapshot();
+  private final RobotTelemetry.StructHandle<TurretSnapshot> m_snapshotTelemetry =
+      RobotTelemetry.structHandle("Snapshot/Turret", TurretSnapshot.struct);
+
+  // Profiling
+  private final LoopProfiler.Phase m_periodicPhase = LoopProfiler.phase("Turret/periodic");
 
   public TurretSubsystem(TurretIO io) {
     m_io = io;
@@ -21,13 +70,21 @@ public class TurretSubsystem extends SubsystemBase {
     m_speedLimiter = new SlewRateLimiter(2.0);
   }
 
+  /**
+   * Moves the unwind check and motor output onto the {@link FastLoopExecutor}. Call once at
+   * startup, before the executor is started.
+   */
+  public void enableFastControl() {
+    m_fastControl = true;
+    FastLoopExecutor.register(this::fastPeriodic);
+  }
+
   /**
    * Sets the speed of the turret motor.
    *
    * @param speed The target speed (-1 to 1) (bool).
    */
   public void setTurretSpeed(double speed) {
-    if (m_isUnwinding) return;
     // Add simple range just in case controller has drift
     if (Math.abs(speed) < 0.1) {
       speed = 0;
@@ -41,7 +98,7 @@ public class TurretSubsystem extends SubsystemBase {
       adjustedSpeed = -adjustedSpeed;
     }
 
-    m_io.setVoltage(adjustedSpeed * 12.0);
+    setDemand(Demand.VOLTAGE, adjustedSpeed * 12.0);
   }
 
   /**
@@ -50,8 +107,7 @@ public class TurretSubsystem extends SubsystemBase {
    * @param volts Output voltage.
    */
   public void setTurretVoltage(double volts) {
-    if (m_isUnwinding) return;
-    m_io.setVoltage(volts);
+    setDemand(Demand.VOLTAGE, volts);
   }
 
   /** Gets the current robot-relative position of the turret in radians. */
@@ -72,9 +128,8 @@ public class TurretSubsystem extends SubsystemBase {
    * @param targetAngleDegrees Target angle in degrees.
    */
   public void setTargetAngle(double targetAngleDegrees) {
-    if (m_isUnwinding) return;
     double targetRotations = (targetAngleDegrees / 360.0) * Constants.TURRET_GEAR_RATIO;
-    m_io.setPosition(targetRotations);
+    setDemand(Demand.POSITION, targetRotations);
   }
 
   /**
@@ -90,8 +145,7 @@ public class TurretSubsystem extends SubsystemBase {
 
   /** Stops the turret motor. */
   public void stop() {
-    if (m_isUnwinding) return;
-    m_io.stop();
+    setDemand(Demand.STOP, 0.0);
     m_speedLimiter.reset(0); // Reset limiter so next move doesn't jump
   }
 
@@ -100,36 +154,129 @@ public class TurretSubsystem extends SubsystemBase {
     return m_isUnwinding;
   }
 
-  @Override
-  public void periodic() {
-    double currentAngle = getTurretAngleDegrees();
+  // Records the latest demand. While unwinding it is held back, and applied once the unwind ends.
+  private void setDemand(Demand demand, double value) {
+    synchronized (m_lock) {
+      m_demand = demand;
+      m_demandValue = value;
+      m_demandSequence++;
+    }
+    if (!m_fastControl && !m_isUnwinding) {
+      applyDemand(demand, value);
+    }
+  }
 
+  private void applyDemand(Demand demand, double value) {
+    switch (demand) {
+      case VOLTAGE -> m_io.setVoltage(value);
+      case POSITION -> m_io.setPosition(value);
+      default -> m_io.stop();
+    }
+  }
+
+  /**
+   * Enters or leaves the unwinding state, commanding the turret home while unwinding.
+   *
+   * @return Whether the turret is still unwinding
+   */
+  private boolean updateUnwinding(boolean unwinding, double currentAngle) {
     // Check if we exceeded bounds and enter unwinding state
-    if (Math.abs(currentAngle) >= 360.0 && !m_isUnwinding) {
-      m_isUnwinding = true;
+    if (Math.abs(currentAngle) >= 360.0) {
+      unwinding = true;
     }
 
     // Handle unwinding logic
-    if (m_isUnwinding) {
+    if (unwinding) {
       m_io.setPosition(0.0);
 
       // Check if we're back near 0 center
       // Stiction and SparkMax deadband with an undertuned PID (kP=0.1) can cause
       // the motor to stall ~18 degrees away from 0.0, so we use a wider 25.0 deg tolerance.
       if (Math.abs(currentAngle) <= 25.0) {
-        m_isUnwinding = false;
-        // Reset our rate limiter so the driver can cleanly regain control
-        m_speedLimiter.reset(0);
+        unwinding = false;
       }
     }
+    return unwinding;
+  }
+
+  /**
+   * Fast control step: samples inputs, checks the unwind bounds and applies new demands. Run by the
+   * {@link FastLoopExecutor} once fast control is enabled.
+   */
+  public void fastPeriodic() {
+    m_io.updateInputs(m_loopInputs);
+    boolean wasUnwinding = m_loopUnwinding;
+    m_loopUnwinding =
+        updateUnwinding(
+            m_loopUnwinding,
+            (m_loopInputs.positionRotations / Constants.TURRET_GEAR_RATIO) * 360.0);
+    Demand demand;
+    double value;
+    long sequence;
+    synchronized (m_lock) {
+      copyInputs(m_loopInputs, m_latestInputs);
+      m_latestUnwinding = m_loopUnwinding;
+      demand = m_demand;
+      value = m_demandValue;
+      sequence = m_demandSequence;
+    }
+    // A demand that arrived during the unwind, or the one it interrupted, goes out once it ends
+    if (!m_loopUnwinding && (sequence != m_appliedSequence || wasUnwinding)) {
+      applyDemand(demand, value);
+      m_appliedSequence = sequence;
+    }
+  }
 
-    m_io.updateInputs(m_inputs);
+  private static void copyInputs(TurretIO.TurretIOInputs from, TurretIO.TurretIOInputs to) {
+    to.appliedVolts = from.appliedVolts;
+    to.currentAmps = from.currentAmps;
+    to.positionRotations = from.positionRotations;
+    to.velocityRPM = from.velocityRPM;
+  }
+
+  @Override
+  public void periodic() {
+    m_periodicPhase.start();
+    if (m_fastControl) {
+      synchronized (m_lock) {
+        copyInputs(m_latestInputs, m_inputs);
+        m_controlInputs.unwinding = m_latestUnwinding;
+      }
+    } else {
+      boolean wasUnwinding = m_isUnwinding;
+      m_controlInputs.unwinding = updateUnwinding(m_isUnwinding, getTurretAngleDegrees());
+      if (wasUnwinding && !m_controlInputs.unwinding) {
+        synchronized (m_lock) {
+          applyDemand(m_demand, m_demandValue);
+        }
+      }
+      m_io.updateInputs(m_inputs);
+    }
     Logger.processInputs("Turret", m_inputs);
+    // The unwind decision is logged, so replay follows the real run even where it was made from
+    // fast loop inputs that never reached the log
+    Logger.processInputs("Turret/Control", m_controlInputs);
+    m_isUnwinding = m_controlInputs.unwinding;
+
+    if (m_wasUnwinding && !m_isUnwinding) {
+      // Reset our rate limiter so the driver can cleanly regain control
+      m_speedLimiter.reset(0);
+    }
+    m_wasUnwinding = m_isUnwinding;
 
     // Output current state of turret motor for debugging
-    RobotTelemetry.putNumber("Turret Motor Speed Output", m_inputs.appliedVolts / 12.0);
-    RobotTelemetry.putNumber("Turret Position", m_inputs.positionRotations);
-    RobotTelemetry.putBoolean("Turret Is Unwinding", m_isUnwinding);
+    m_motorOutputTelemetry.set(m_inputs.appliedVolts / 12.0);
+    m_positionTelemetry.set(m_inputs.positionRotations);
+    m_unwindingTelemetry.set(m_isUnwinding);
+
+    m_snapshot.angleDegrees = getTurretAngleDegrees();
+    RobotState.updateTurret(m_snapshot.angleDegrees);
+    m_snapshot.appliedVolts = m_inputs.appliedVolts;
+    m_snapshot.currentAmps = m_inputs.currentAmps;
+    m_snapshot.velocityRPM = m_inputs.velocityRPM;
+    m_snapshot.unwinding = m_isUnwinding;
+    m_snapshotTelemetry.set(m_snapshot);
+    m_periodicPhase.stop();
   }
 
   @Override
@@ -0,0 +1,101 @@
+package frc.robot.utils;
+
+/**
+ * Preallocated single-producer / single-consumer ring of timestamped drivetrain odometry samples.
+ * The sampling thread calls {@link #offer}, the main loop calls {@link #drainTo}; neither locks or
+ * allocates.
+ */
+public final class OdometryRingBuffer {
+  private final int m_mask;
+  private final double[] m_timestamps;
+  private final double[] m_leftPositions;
+  private final double[] m_rightPositions;
+  private final double[] m_gyroAngles;
+
+  // Next slot to write (only written by the producer)
+  private volatile long m_head = 0;
+  // Next slot to read (only written by the consumer)
+  private volatile long m_tail = 0;
+  // Samples rejected because the ring was full (only written by the producer)
+  private volatile long m_dropped = 0;
+
+  /**
+   * Creates a ring buffer.
+   *
+   * @param capacity Number of samples, rounded up to a power of two
+   */
+  public OdometryRingBuffer(int capacity) {
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    m_mask = size - 1;
+    m_timestamps = new double[size];
+    m_leftPositions = new double[size];
+    m_rightPositions = new double[size];
+    m_gyroAngles = new double[size];
+  }
+
+  /**
+   * Adds a sample. Producer thread only.
+   *
+   * @param timestampSeconds FPGA time the sample was taken
+   * @param leftMeters Left encoder position
+   * @param rightMeters Right encoder position
+   * @param gyroAngleDegrees Gyro angle as the gyro reports it
+   * @return False if the ring was full and the sample was dropped
+   */
+  public boolean offer(
+      double timestampSeconds, double leftMeters, double rightMeters, double gyroAngleDegrees) {
+    long head = m_head;
+    if (head - m_tail > m_mask) {
+      m_dropped++;
+      return false;
+    }
+    int slot = (int) head & m_mask;
+    m_timestamps[slot] = timestampSeconds;
+    m_leftPositions[slot] = leftMeters;
+    m_rightPositions[slot] = rightMeters;
+    m_gyroAngles[slot] = gyroAngleDegrees;
+    // Volatile write publishes the slot contents to the consumer
+    m_head = head + 1;
+    return true;
+  }
+
+  /**
+   * Copies queued samples, oldest first, into the given arrays. Stops when the arrays are full;
+   * anything left stays queued for the next drain. Consumer thread only.
+   *
+   * @return Number of samples copied
+   */
+  public int drainTo(
+      double[] timestamps, double[] leftPositions, double[] rightPositions, double[] gyroAngles) {
+    long tail = m_tail;
+    long head = m_head;
+    int count = 0;
+    while (tail < head && count < timestamps.length) {
+      int slot = (int) tail & m_mask;
+      timestamps[count] = m_timestamps[slot];
+      leftPositions[count] = m_leftPositions[slot];
+      rightPositions[count] = m_rightPositions[slot];
+      gyroAngles[count] = m_gyroAngles[slot];
+      tail++;
+      count++;
+    }
+    // Volatile write frees the slots for the producer
+    m_tail = tail;
+    return count;
+  }
+
+  /** Returns the number of queued samples. */
+  public int size() {
+    return (int) (m_head - m_tail);
+  }
+
+  /** Returns the number of slots. */
+  public int capacity() {
+    return m_mask + 1;
+  }
+
+  /** Returns the number of samples dropped because the ring was full. */
+  public long getDroppedCount() {
+    return m_dropped;
+  }
+}
@@ -0,0 +1,101 @@
+package frc.robot.utils;
+
+/**
+ * Preallocated single-producer / single-consumer ring of primitive telemetry samples. One thread
+ * may call {@link #offer}, and one other thread may call {@link #drainTo}; neither allocates.
+ *
+ * <p>Each sample is a key id, a timestamp, a raw 64-bit value (double bits or a boolean as 0/1)
+ * and an optional object reference for values that are already objects (strings).
+ */
+public final class SampleRingBuffer {
+  /** Receives drained samples. */
+  @FunctionalInterface
+  public interface SampleConsumer {
+    void accept(int id, long timestamp, long value, Object ref);
+  }
+
+  private final int m_mask;
+  private final int[] m_ids;
+  private final long[] m_timestamps;
+  private final long[] m_values;
+  private final Object[] m_refs;
+
+  // Next slot to write (only written by the producer)
+  private volatile long m_head = 0;
+  // Next slot to read (only written by the consumer)
+  private volatile long m_tail = 0;
+  // Samples rejected because the ring was full (only written by the producer)
+  private volatile long m_dropped = 0;
+
+  /**
+   * Creates a ring buffer.
+   *
+   * @param capacity Number of samples, rounded up to a power of two
+   */
+  public SampleRingBuffer(int capacity) {
+    int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    m_mask = size - 1;
+    m_ids = new int[size];
+    m_timestamps = new long[size];
+    m_values = new long[size];
+    m_refs = new Object[size];
+  }
+
+  /**
+   * Adds a sample. Producer thread only.
+   *
+   * @return False if the ring was full and the sample was dropped
+   */
+  public boolean offer(int id, long timestamp, long value, Object ref) {
+    long head = m_head;
+    if (head - m_tail > m_mask) {
+      m_dropped++;
+      return false;
+    }
+    int slot = (int) head & m_mask;
+    m_ids[slot] = id;
+    m_timestamps[slot] = timestamp;
+    m_values[slot] = value;
+    m_refs[slot] = ref;
+    // Volatile write publishes the slot contents to the consumer
+    m_head = head + 1;
+    return true;
+  }
+
+  /**
+   * Hands every queued sample to the consumer. Consumer thread only.
+   *
+   * @return Number of samples drained
+   */
+  public int drainTo(SampleConsumer consumer) {
+    long tail = m_tail;
+    long head = m_head;
+    int count = 0;
+    while (tail < head) {
+      int slot = (int) tail & m_mask;
+      Object ref = m_refs[slot];
+      m_refs[slot] = null;
+      consumer.accept(m_ids[slot], m_timestamps[slot], m_values[slot], ref);
+      tail++;
+      count++;
+    }
+    // Volatile write frees the slots for the producer
+    m_tail = tail;
+    return count;
+  }
+
+  /** Returns the number of queued samples. */
+  public int size() {
+    return (int) (m_head - m_tail);
+  }
+
+  /** Returns the number of slots. */
+  public int capacity() {
+    return m_mask + 1;
+  }
+
+  /** Returns the number of samples dropped because the ring was full. */
+  public long getDroppedCount() {
+    return m_dropped;
+  }
+}
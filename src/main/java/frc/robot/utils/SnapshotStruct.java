@@ -0,0 +1,146 @@
+package frc.robot.utils;
+
+import edu.wpi.first.util.struct.Struct;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Struct serializer for a flat snapshot of doubles and booleans. Each field is declared once with
+ * its getter and setter, and the schema, size, pack and unpack all follow that declaration order.
+ * The struct type name is the snapshot's simple class name.
+ *
+ * <p>Declare every field when the serializer is built; it must not change once published.
+ *
+ * @param <T> Snapshot type
+ */
+public final class SnapshotStruct<T> implements Struct<T> {
+  private final Class<T> m_type;
+  private final Supplier<T> m_factory;
+  private final List<Field<T>> m_fields = new ArrayList<>();
+  private int m_size = 0;
+
+  private abstract static class Field<T> {
+    final String m_schema;
+
+    Field(String schema) {
+      m_schema = schema;
+    }
+
+    abstract void pack(ByteBuffer bb, T value);
+
+    abstract void unpack(ByteBuffer bb, T value);
+  }
+
+  /**
+   * Starts a serializer with no fields.
+   *
+   * @param type Snapshot class
+   * @param factory Creates an empty snapshot to unpack into
+   */
+  public SnapshotStruct(Class<T> type, Supplier<T> factory) {
+    m_type = type;
+    m_factory = factory;
+  }
+
+  /**
+   * Appends a double field.
+   *
+   * @param name Field name in the schema
+   * @param getter Reads the field from a snapshot
+   * @param setter Writes the field into a snapshot
+   * @return This serializer, for chaining
+   */
+  public SnapshotStruct<T> addDouble(
+      String name, ToDoubleFunction<T> getter, ObjDoubleConsumer<T> setter) {
+    m_fields.add(
+        new Field<T>("double " + name) {
+          @Override
+          void pack(ByteBuffer bb, T value) {
+            bb.putDouble(getter.applyAsDouble(value));
+          }
+
+          @Override
+          void unpack(ByteBuffer bb, T value) {
+            setter.accept(value, bb.getDouble());
+          }
+        });
+    m_size += Struct.kSizeDouble;
+    return this;
+  }
+
+  /**
+   * Appends a boolean field.
+   *
+   * @param name Field name in the schema
+   * @param getter Reads the field from a snapshot
+   * @param setter Writes the field into a snapshot
+   * @return This serializer, for chaining
+   */
+  public SnapshotStruct<T> addBoolean(
+      String name, Predicate<T> getter, BiConsumer<T, Boolean> setter) {
+    m_fields.add(
+        new Field<T>("bool " + name) {
+          @Override
+          void pack(ByteBuffer bb, T value) {
+            bb.put(getter.test(value) ? (byte) 1 : (byte) 0);
+          }
+
+          @Override
+          void unpack(ByteBuffer bb, T value) {
+            setter.accept(value, bb.get() != 0);
+          }
+        });
+    m_size += Struct.kSizeBool;
+    return this;
+  }
+
+  @Override
+  public Class<T> getTypeClass() {
+    return m_type;
+  }
+
+  @Override
+  public String getTypeName() {
+    return m_type.getSimpleName();
+  }
+
+  @Override
+  public int getSize() {
+    return m_size;
+  }
+
+  @Override
+  public String getSchema() {
+    StringBuilder schema = new StringBuilder();
+    for (int i = 0; i < m_fields.size(); i++) {
+      if (i > 0) {
+        schema.append(';');
+      }
+      schema.append(m_fields.get(i).m_schema);
+    }
+    return schema.toString();
+  }
+
+  @Override
+  public T unpack(ByteBuffer bb) {
+    T value = m_factory.get();
+    for (int i = 0; i < m_fields.size(); i++) {
+      m_fields.get(i).unpack(bb, value);
+    }
+    return value;
+  }
+
+  @Override
+  public void pack(ByteBuffer bb, T value) {
+    // Indexed so the per-loop pack does not allocate an iterator
+    for (int i = 0; i < m_fields.size(); i++) {
+      m_fields.get(i).pack(bb, value);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for raising, clearing and debouncing alerts on the AlertBus. */
+public class AlertBusTest {
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+  }
+
+  // ─── Raising and clearing ────────────────────────────────────────
+
+  @Test
+  public void testSet_followsCondition() {
+    AlertBus.Alert alert = AlertBus.alert("Test/Follow", AlertBus.Severity.WARNING, "text");
+    assertFalse(alert.isActive(), "A new alert starts cleared");
+    alert.set(true);
+    assertTrue(alert.isActive(), "Raised while the condition holds");
+    alert.set(false);
+    assertFalse(alert.isActive(), "Cleared once the condition goes away");
+    AlertBus.periodic();
+  }
+
+  @Test
+  public void testAlert_sameName_returnsSameAlert() {
+    AlertBus.Alert first = AlertBus.alert("Test/Same", AlertBus.Severity.INFO, "one");
+    first.set(true);
+    AlertBus.Alert second = AlertBus.alert("Test/Same", AlertBus.Severity.INFO, "two");
+    assertSame(first, second, "Alerts are cached by name");
+    assertTrue(second.isActive(), "Looking an alert up again keeps its state");
+  }
+
+  // ─── Debouncing ──────────────────────────────────────────────────
+
+  @Test
+  public void testWithDebounce_briefCondition_doesNotRaise() {
+    AlertBus.Alert alert =
+        AlertBus.alert("Test/Debounce", AlertBus.Severity.WARNING, "text").withDebounce(10.0);
+    alert.set(true);
+    assertFalse(alert.isActive(), "A condition shorter than the debounce time is ignored");
+  }
+}
@@ -0,0 +1,68 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.Commands;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for prebuilding and resolving autonomous commands in AutoCommandCache. */
+public class AutoCommandCacheTest {
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+  }
+
+  private int m_builds = 0;
+
+  private Command countingBuild(String name) {
+    m_builds++;
+    if (name.equals("Broken")) {
+      throw new IllegalStateException("no such auto");
+    }
+    return Commands.none().withName(name);
+  }
+
+  // ─── Prebuilding ─────────────────────────────────────────────────
+
+  @Test
+  public void testGet_prebuilt_doesNotRebuild() {
+    AutoCommandCache cache = new AutoCommandCache(this::countingBuild);
+    cache.prebuild(List.of("A", "B"));
+    assertEquals(2, m_builds, "Every selection is built at boot");
+
+    Command command = cache.get("A");
+    assertEquals("A", command.getName(), "Returns the command built for the selection");
+    assertEquals(2, m_builds, "Getting a prebuilt selection must not build again");
+  }
+
+  @Test
+  public void testGet_nullSelection_returnsNull() {
+    AutoCommandCache cache = new AutoCommandCache(this::countingBuild);
+    assertNull(cache.get(null), "No selection means no auto");
+    assertEquals(0, m_builds, "Nothing is built for a null selection");
+  }
+
+  // ─── Failed builds ───────────────────────────────────────────────
+
+  @Test
+  public void testPrebuild_failure_isCachedAsNull() {
+    AutoCommandCache cache = new AutoCommandCache(this::countingBuild);
+    cache.prebuild(List.of("Broken"));
+    assertNull(cache.get("Broken"), "A failed build yields no command");
+    assertEquals(1, m_builds, "autonomousInit must not retry a failed build");
+  }
+
+  @Test
+  public void testRefresh_retriesFailedSelectionOnce() {
+    AutoCommandCache cache = new AutoCommandCache(this::countingBuild);
+    cache.prebuild(List.of("Broken"));
+    cache.refresh("Broken");
+    cache.refresh("Broken");
+    assertEquals(2, m_builds, "Selecting a failed auto retries it once, not every loop");
+  }
+}
@@ -0,0 +1,214 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import edu.wpi.first.math.kinematics.DifferentialDriveWheelSpeeds;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.constants.TweakConstants;
+import frc.robot.subsystems.DriveIO;
+import frc.robot.subsystems.DriveSubsystem;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for DriveSubsystem against a fake DriveIO.
+ *
+ * <p>AutoBuilder can only be configured once, so the subsystem is created ONCE for all tests.
+ */
+public class DriveSubsystemTest {
+
+  private static DriveSubsystem m_drive;
+  private static double m_leftMeters = 0.0;
+  private static double m_rightMeters = 0.0;
+  private static double m_gyroAngle = 0.0;
+  private static double m_leftVelocity = 0.0;
+  private static double m_rightVelocity = 0.0;
+  private static int m_reads = 0;
+  private static double m_leftOutput = 0.0;
+  private static double m_leftFeedforward = 0.0;
+  // Idle mode asked for; the fake controllers never confirm it, so a change stays pending
+  private static boolean m_brakeRequested = false;
+  // High-rate samples handed out on the next read: {timestamp, left, right}
+  private static double[][] m_samples = new double[0][];
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+    m_drive =
+        new DriveSubsystem(
+            new DriveIO() {
+              @Override
+              public void updateInputs(DriveIOInputs inputs) {
+                m_reads++;
+                inputs.leftPositionMeters = m_leftMeters;
+                inputs.rightPositionMeters = m_rightMeters;
+                inputs.gyroAngleDegrees = m_gyroAngle;
+                inputs.leftVelocityMetersPerSec = m_leftVelocity;
+                inputs.rightVelocityMetersPerSec = m_rightVelocity;
+                // Front and back wheels agree, so traction control sees no slip from them
+                inputs.leftFollowerPositionMeters = m_leftMeters;
+                inputs.rightFollowerPositionMeters = m_rightMeters;
+                inputs.leftFollowerVelocityMetersPerSec = m_leftVelocity;
+                inputs.rightFollowerVelocityMetersPerSec = m_rightVelocity;
+                inputs.brakeModeRequested = m_brakeRequested;
+                inputs.brakeModeApplied = false;
+                inputs.idleModeChangePending = m_brakeRequested;
+                inputs.odometrySampleCount = m_samples.length;
+                for (int i = 0; i < m_samples.length; i++) {
+                  inputs.odometryTimestamps[i] = m_samples[i][0];
+                  inputs.odometryLeftPositionsMeters[i] = m_samples[i][1];
+                  inputs.odometryRightPositionsMeters[i] = m_samples[i][2];
+                  inputs.odometryGyroAnglesDegrees[i] = m_gyroAngle;
+                }
+                m_samples = new double[0][];
+              }
+
+              @Override
+              public void setDutyCycle(double left, double right) {
+                m_leftOutput = left;
+              }
+
+              @Override
+              public void setVelocity(
+                  double leftMetersPerSec,
+                  double rightMetersPerSec,
+                  double leftFeedforwardVolts,
+                  double rightFeedforwardVolts) {
+                m_leftFeedforward = leftFeedforwardVolts;
+              }
+
+              @Override
+              public void setBrakeMode(boolean brake) {
+                m_brakeRequested = brake;
+              }
+            });
+  }
+
+  // ─── Inputs ──────────────────────────────────────────────────────
+
+  @Test
+  public void testPeriodic_readsInputsOnce() {
+    int before = m_reads;
+    m_drive.periodic();
+    assertEquals(before + 1, m_reads, "Hardware is read exactly once per loop");
+  }
+
+  @Test
+  public void testPeriodic_odometryFollowsInputs() {
+    m_drive.periodic();
+    double startX = m_drive.getPose().getX();
+    m_leftMeters += 1.0;
+    m_rightMeters += 1.0;
+    m_drive.periodic();
+    assertEquals(startX + 1.0, m_drive.getPose().getX(), 0.01, "Both wheels forward 1 m");
+  }
+
+  @Test
+  public void testPeriodic_appliesEveryOdometrySample() {
+    m_drive.periodic();
+    double startX = m_drive.getPose().getX();
+    double now = Timer.getFPGATimestamp();
+    m_samples =
+        new double[][] {
+          {now, m_leftMeters + 0.5, m_rightMeters + 0.5},
+          {now + 0.005, m_leftMeters + 1.0, m_rightMeters + 1.0}
+        };
+    m_leftMeters += 1.0;
+    m_rightMeters += 1.0;
+    m_drive.periodic();
+    assertEquals(startX + 1.0, m_drive.getPose().getX(), 0.01, "Samples are integrated in order");
+  }
+
+  @Test
+  public void testGetRotation2d_isCounterclockwisePositive() {
+    m_gyroAngle = 90.0;
+    m_drive.periodic();
+    assertEquals(-90.0, m_drive.getRotation2d().getDegrees(), 1e-6, "navX reads clockwise");
+    m_gyroAngle = 0.0;
+    m_drive.periodic();
+  }
+
+  // ─── Kinematics ──────────────────────────────────────────────────
+
+  @Test
+  public void testGetSpeeds_matchesKinematicsWithoutAllocating() {
+    m_leftVelocity = 1.0;
+    m_rightVelocity = 2.0;
+    m_drive.periodic();
+    ChassisSpeeds expected =
+        DriveConstants.kDriveKinematics.toChassisSpeeds(new DifferentialDriveWheelSpeeds(1.0, 2.0));
+    ChassisSpeeds speeds = m_drive.getSpeeds();
+    assertEquals(expected.vxMetersPerSecond, m_drive.getVxMetersPerSecond(), 1e-9);
+    assertEquals(expected.omegaRadiansPerSecond, m_drive.getOmegaRadPerSec(), 1e-9);
+    assertEquals(expected.vxMetersPerSecond, speeds.vxMetersPerSecond, 1e-9);
+
+    m_leftVelocity = 0.0;
+    m_rightVelocity = 0.0;
+    m_drive.periodic();
+    assertSame(speeds, m_drive.getSpeeds(), "The same instance is refilled every loop");
+    assertEquals(0.0, speeds.vxMetersPerSecond, 1e-9);
+  }
+
+  @Test
+  public void testPoseAccessors_matchPose() {
+    m_drive.periodic();
+    assertEquals(m_drive.getPose().getX(), m_drive.getPoseX(), 1e-9);
+    assertEquals(m_drive.getPose().getY(), m_drive.getPoseY(), 1e-9);
+    assertEquals(m_drive.getPose().getRotation().getRadians(), m_drive.getPoseTheta(), 1e-9);
+  }
+
+  // ─── Outputs ─────────────────────────────────────────────────────
+
+  @Test
+  public void testTankDrive_reachesIO() {
+    m_drive.tankDrive(0.5, 0.5);
+    assertNotEquals(0.0, m_leftOutput, "Open-loop output goes through DriveIO");
+    m_drive.stop();
+  }
+
+  @Test
+  public void testSetWheelVelocities_addsAccelerationFeedforward() {
+    // Speed steps in other tests read as wheel slip; keep its output scaling out of the numbers
+    boolean tractionControl = TweakConstants.ENABLE_TRACTION_CONTROL;
+    TweakConstants.ENABLE_TRACTION_CONTROL = false;
+    m_drive.setWheelVelocities(1.0, 1.0);
+    double cruise = m_leftFeedforward;
+    assertEquals(
+        DriveConstants.ksDriveVolts + DriveConstants.kvDriveVoltSecondsPerMeter, cruise, 1e-9);
+
+    m_drive.setWheelVelocities(1.0, 1.0, 2.0, 2.0);
+    assertEquals(
+        cruise + 2.0 * DriveConstants.kaDriveVoltSecondsSquaredPerMeter,
+        m_leftFeedforward,
+        1e-9,
+        "Accelerating adds kA * a on top of the velocity feedforward");
+    m_drive.stop();
+    TweakConstants.ENABLE_TRACTION_CONTROL = tractionControl;
+  }
+
+  @Test
+  public void testSwitchBrakemode_togglesWhileChangePending() {
+    m_brakeRequested = false;
+    m_drive.periodic();
+    m_drive.SwitchBrakemode();
+    m_drive.periodic();
+    assertTrue(m_brakeRequested, "First press asks for brake");
+    assertFalse(m_drive.isBrakeMode(), "Not confirmed while the change is still being sent");
+
+    m_drive.SwitchBrakemode();
+    m_drive.periodic();
+    assertFalse(m_brakeRequested, "Second press toggles back before the first one lands");
+  }
+
+  @Test
+  public void testTeleopLimits_fitVoltageBudget() {
+    double volts =
+        DriveConstants.ksDriveVolts
+            + DriveConstants.kvDriveVoltSecondsPerMeter
+                * DriveConstants.kMaxTeleopSpeedMetersPerSecond;
+    assertEquals(DriveConstants.kTeleopVoltageBudget, volts, 1e-9);
+    assertTrue(DriveConstants.kMaxTeleopAccelerationMetersPerSecondSquared > 0.0);
+  }
+}
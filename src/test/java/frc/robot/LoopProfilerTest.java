@@ -0,0 +1,108 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.networktables.DoubleSubscriber;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.InstantCommand;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the rolling phase windows in LoopProfiler. */
+public class LoopProfilerTest {
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+  }
+
+  private static DoubleSubscriber subscribe(String key) {
+    return NetworkTableInstance.getDefault()
+        .getTable("SmartDashboard")
+        .getDoubleTopic(key)
+        .subscribe(-1.0);
+  }
+
+  // ─── Percentiles ─────────────────────────────────────────────────
+
+  @Test
+  public void testPercentile_emptyPhase_isZero() {
+    LoopProfiler.Phase phase = LoopProfiler.phase("Test/Empty");
+    assertEquals(0.0, phase.percentile(0.5), 1e-9, "A phase with no samples reports zero");
+  }
+
+  @Test
+  public void testPercentile_nearestRank() {
+    LoopProfiler.Phase phase = LoopProfiler.phase("Test/Ranks");
+    // 1..100 microseconds, recorded out of order
+    for (int i = 100; i >= 1; i--) {
+      phase.record(i * 1000L, 0);
+    }
+    assertEquals(50.0, phase.percentile(0.5), 1e-9, "p50 of 1..100");
+    assertEquals(99.0, phase.percentile(0.99), 1e-9, "p99 of 1..100");
+    assertEquals(100.0, phase.percentile(1.0), 1e-9, "Max of 1..100");
+  }
+
+  @Test
+  public void testWindow_dropsOldestSamples() {
+    LoopProfiler.Phase phase = LoopProfiler.phase("Test/Window");
+    phase.record(1_000_000L, 0);
+    for (int i = 0; i < frc.robot.constants.Constants.PROFILER_WINDOW_SIZE; i++) {
+      phase.record(1000L, 0);
+    }
+    assertEquals(1.0, phase.percentile(1.0), 1e-9, "Old spike has rolled out of the window");
+  }
+
+  // ─── Command phases ──────────────────────────────────────────────
+
+  @Test
+  public void testCommandPhase_sameClassCommands_timedSeparately() {
+    Command first = new InstantCommand(() -> {});
+    Command second = new InstantCommand(() -> {});
+    // Stage 1 is "execute"
+    LoopProfiler.Phase firstPhase = LoopProfiler.commandPhase(first, 1);
+    LoopProfiler.Phase secondPhase = LoopProfiler.commandPhase(second, 1);
+    assertNotSame(firstPhase, secondPhase, "Unnamed commands of one class get their own phases");
+    assertNotEquals(
+        firstPhase.getName(), secondPhase.getName(), "And publish under different keys");
+    assertSame(firstPhase, LoopProfiler.commandPhase(first, 1), "A command keeps its phase");
+  }
+
+  // ─── Allocation metering ─────────────────────────────────────────
+
+  @Test
+  public void testRecordAllocation_publishesBytesPerCall() {
+    LoopProfiler.Phase phase = LoopProfiler.phase("Test/Allocation");
+    DoubleSubscriber average = subscribe("Profiler/Test/Allocation/BytesPerCall");
+    DoubleSubscriber max = subscribe("Profiler/Test/Allocation/MaxBytesPerCall");
+    phase.record(1000L, 0);
+    phase.recordAllocation(128);
+    phase.recordAllocation(32);
+    phase.publish();
+    RobotTelemetry.periodic();
+    assertEquals(80.0, average.get(), 1e-9, "Average over the calls in the window");
+    assertEquals(128.0, max.get(), 1e-9, "Largest single call in the window");
+    average.close();
+    max.close();
+  }
+
+  @Test
+  public void testAllocationBudget_reportsOnlyWindowsOverBudget() {
+    LoopProfiler.Phase phase = LoopProfiler.phase("Test/Budget").withAllocationBudget(64);
+    StringBuilder alert = new StringBuilder();
+    phase.recordAllocation(128);
+    phase.recordAllocation(32);
+    phase.appendBudgetAlert(alert);
+    assertEquals(
+        "Test/Budget allocated up to 128 B (budget 64 B)",
+        alert.toString(),
+        "One call over budget raises the alert");
+
+    alert.setLength(0);
+    phase.recordAllocation(32);
+    phase.appendBudgetAlert(alert);
+    assertEquals("", alert.toString(), "The next window starts clean");
+  }
+}
@@ -0,0 +1,57 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import frc.robot.utils.OdometryRingBuffer;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the single-producer / single-consumer odometry sample ring. */
+public class OdometryRingBufferTest {
+
+  private final double[] m_timestamps = new double[4];
+  private final double[] m_left = new double[4];
+  private final double[] m_right = new double[4];
+  private final double[] m_gyro = new double[4];
+
+  private int drain(OdometryRingBuffer ring) {
+    return ring.drainTo(m_timestamps, m_left, m_right, m_gyro);
+  }
+
+  // ─── offer / drainTo ─────────────────────────────────────────────
+
+  @Test
+  public void testDrain_returnsSamplesInOrder() {
+    OdometryRingBuffer ring = new OdometryRingBuffer(8);
+    ring.offer(1.0, 0.1, 0.2, 5.0);
+    ring.offer(2.0, 0.3, 0.4, 6.0);
+
+    assertEquals(2, drain(ring), "Both samples drained");
+    assertArrayEquals(new double[] {1.0, 2.0}, new double[] {m_timestamps[0], m_timestamps[1]});
+    assertEquals(0.3, m_left[1], 1e-9, "Left position survives the ring");
+    assertEquals(0.4, m_right[1], 1e-9, "Right position survives the ring");
+    assertEquals(6.0, m_gyro[1], 1e-9, "Gyro angle survives the ring");
+    assertEquals(0, ring.size(), "Ring is empty after drain");
+  }
+
+  @Test
+  public void testDrain_stopsWhenArraysFull() {
+    OdometryRingBuffer ring = new OdometryRingBuffer(8);
+    for (int i = 0; i < 6; i++) {
+      ring.offer(i, 0.0, 0.0, 0.0);
+    }
+    assertEquals(4, drain(ring), "Only as many samples as the arrays hold");
+    assertEquals(2, ring.size(), "The rest wait for the next drain");
+    assertEquals(2, drain(ring), "Next drain picks up the rest");
+    assertEquals(4.0, m_timestamps[0], 1e-9, "Oldest remaining sample comes first");
+  }
+
+  @Test
+  public void testOffer_whenFull_dropsAndCounts() {
+    OdometryRingBuffer ring = new OdometryRingBuffer(4);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(ring.offer(i, 0.0, 0.0, 0.0), "Sample " + i + " fits");
+    }
+    assertFalse(ring.offer(4, 0.0, 0.0, 0.0), "Fifth sample is dropped");
+    assertEquals(1, ring.getDroppedCount(), "Drop is counted");
+  }
+}
@@ -0,0 +1,68 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.Joystick;
+import edu.wpi.first.wpilibj.XboxController;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.JoystickSim;
+import edu.wpi.first.wpilibj.simulation.XboxControllerSim;
+import edu.wpi.first.wpilibj2.command.button.Trigger;
+import frc.robot.constants.Constants;
+import java.util.function.DoubleSupplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for latching controller inputs once per loop in OperatorInput. */
+public class OperatorInputTest {
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+  }
+
+  // ─── Latching ────────────────────────────────────────────────────
+
+  @Test
+  public void testXboxButton_readsLatchedValue() {
+    XboxControllerSim xbox = new XboxControllerSim(Constants.CONTROLLER_USB_INDEX);
+    Trigger a = OperatorInput.xboxButton(XboxController.Button.kA);
+
+    xbox.setAButton(true);
+    DriverStationSim.notifyNewData();
+    OperatorInput.update();
+    assertTrue(a.getAsBoolean(), "Pressed once latched");
+
+    xbox.setAButton(false);
+    DriverStationSim.notifyNewData();
+    assertTrue(a.getAsBoolean(), "Keeps the latched value until the next update");
+
+    OperatorInput.update();
+    assertFalse(a.getAsBoolean(), "Released after the next update");
+  }
+
+  @Test
+  public void testFlightstickAxisAndButton_readLatchedValues() {
+    JoystickSim stick = new JoystickSim(new Joystick(Constants.FLIGHTSTICK_USB_INDEX));
+    stick.setAxisCount(4);
+    stick.setButtonCount(12);
+    DoubleSupplier throttle = OperatorInput.flightstickAxis(Joystick.kDefaultThrottleChannel);
+    Trigger button12 = OperatorInput.flightstickButton(12);
+
+    stick.setThrottle(0.5);
+    stick.setRawButton(12, true);
+    DriverStationSim.notifyNewData();
+    OperatorInput.update();
+
+    assertEquals(0.5, throttle.getAsDouble(), 1e-3, "Throttle channel is latched");
+    assertTrue(button12.getAsBoolean(), "Button numbers start at 1");
+  }
+
+  @Test
+  public void testUpdate_stampsFpgaTime() {
+    OperatorInput.update();
+    assertTrue(OperatorInput.getTimestampMicros() > 0, "Inputs are stamped when latched");
+    assertTrue(OperatorInput.getAgeMicros() >= 0, "Age is measured from the latch time");
+  }
+}
@@ -0,0 +1,50 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.math.geometry.Pose2d;
+import edu.wpi.first.math.geometry.Rotation2d;
+import edu.wpi.first.math.kinematics.ChassisSpeeds;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the per-loop RobotState snapshot. */
+public class RobotStateTest {
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+  }
+
+  // ─── Drive ───────────────────────────────────────────────────────
+
+  @Test
+  public void testUpdateDrive_copiesPoseAndSpeeds() {
+    RobotState.updateDrive(
+        new Pose2d(1.0, 2.0, Rotation2d.fromDegrees(90)), new ChassisSpeeds(1.5, 0.0, 0.25));
+    assertEquals(1.5, RobotState.getVxMetersPerSecond(), 1e-9);
+    assertEquals(0.25, RobotState.getOmegaRadiansPerSecond(), 1e-9);
+    assertEquals(1.0, RobotState.getPoseX(), 1e-9);
+    assertEquals(2.0, RobotState.getPoseY(), 1e-9);
+    assertEquals(Math.PI / 2, RobotState.getHeadingRadians(), 1e-9);
+  }
+
+  @Test
+  public void testGetChassisSpeeds_reusesInstance() {
+    RobotState.updateDrive(new Pose2d(), new ChassisSpeeds(1.0, 0.0, 0.0));
+    ChassisSpeeds first = RobotState.getChassisSpeeds();
+    RobotState.updateDrive(new Pose2d(), new ChassisSpeeds(3.0, 0.0, 0.0));
+    assertSame(first, RobotState.getChassisSpeeds(), "No allocation per loop");
+    assertEquals(3.0, first.vxMetersPerSecond, 1e-9, "The instance is refilled each loop");
+  }
+
+  // ─── Driver station ──────────────────────────────────────────────
+
+  @Test
+  public void testUpdateRobot_noAlliance_isNotRed() {
+    RobotState.updateRobot();
+    assertFalse(RobotState.isAllianceKnown(), "No driver station attached in tests");
+    assertFalse(RobotState.isRedAlliance(), "Unknown alliance must not flip paths");
+  }
+}
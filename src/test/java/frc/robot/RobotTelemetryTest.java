@@ -0,0 +1,165 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.networktables.DoubleSubscriber;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.networktables.StructSubscriber;
+import frc.robot.subsystems.TurretSnapshot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the handle registry in RobotTelemetry. */
+public class RobotTelemetryTest {
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+  }
+
+  // ─── Registration ────────────────────────────────────────────────
+
+  @Test
+  public void testNumberHandle_sameKey_returnsSameHandle() {
+    RobotTelemetry.NumberHandle first = RobotTelemetry.numberHandle("Test/Number");
+    RobotTelemetry.NumberHandle second = RobotTelemetry.numberHandle("Test/Number");
+    assertSame(first, second, "Registering a key twice must return the cached handle");
+  }
+
+  @Test
+  public void testHandle_reportsKey() {
+    assertEquals(
+        "Test/Key", RobotTelemetry.booleanHandle("Test/Key").getKey(), "Handle keeps its key");
+  }
+
+  @Test
+  public void testHandle_typeMismatch_throws() {
+    RobotTelemetry.stringHandle("Test/String");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> RobotTelemetry.numberHandle("Test/String"),
+        "A key can only be registered with one type");
+  }
+
+  // ─── Compatibility shim ──────────────────────────────────────────
+
+  @Test
+  public void testPutNumber_registersHandle() {
+    RobotTelemetry.putNumber("Test/Shim", 1.0);
+    assertNotNull(RobotTelemetry.numberHandle("Test/Shim"), "putNumber must register a handle");
+  }
+
+  @Test
+  public void testPeriodic_doesNotThrow() {
+    RobotTelemetry.numberHandle("Test/Flush").set(2.0);
+    RobotTelemetry.booleanHandle("Test/FlushBool").set(true);
+    RobotTelemetry.stringHandle("Test/FlushString").set("ok");
+    assertDoesNotThrow(RobotTelemetry::periodic, "periodic() must not throw");
+  }
+
+  // ─── Change detection ────────────────────────────────────────────
+
+  @Test
+  public void testDeadband_smallChange_isSuppressed() {
+    RobotTelemetry.NumberHandle handle = RobotTelemetry.numberHandle("Test/Deadband", 0.1);
+    DoubleSubscriber subscriber =
+        NetworkTableInstance.getDefault()
+            .getTable("SmartDashboard")
+            .getDoubleTopic("Test/Deadband")
+            .subscribe(-1.0);
+
+    handle.set(1.0);
+    RobotTelemetry.periodic();
+    assertEquals(1.0, subscriber.get(), 1e-9, "First write is always published");
+
+    handle.set(1.05);
+    RobotTelemetry.periodic();
+    assertEquals(1.0, subscriber.get(), 1e-9, "Change inside the deadband is not published");
+
+    handle.set(1.2);
+    RobotTelemetry.periodic();
+    assertEquals(1.2, subscriber.get(), 1e-9, "Change outside the deadband is published");
+    subscriber.close();
+  }
+
+  // ─── Tiers and rate limits ───────────────────────────────────────
+
+  @Test
+  public void testTier_defaultsToCompetition() {
+    assertEquals(
+        RobotTelemetry.Tier.COMPETITION,
+        RobotTelemetry.numberHandle("Test/DefaultTier").getTier(),
+        "Untagged keys are always published");
+  }
+
+  @Test
+  public void testTier_competitionAlwaysActive() {
+    assertTrue(
+        RobotTelemetry.isTierActive(RobotTelemetry.Tier.COMPETITION),
+        "The competition tier can never be switched off");
+  }
+
+  @Test
+  public void testMaxRate_holdsBackFasterWrites() {
+    RobotTelemetry.NumberHandle handle =
+        RobotTelemetry.numberHandle("Test/RateLimited").withMaxRate(0.001);
+    DoubleSubscriber subscriber =
+        NetworkTableInstance.getDefault()
+            .getTable("SmartDashboard")
+            .getDoubleTopic("Test/RateLimited")
+            .subscribe(-1.0);
+
+    handle.set(1.0);
+    RobotTelemetry.periodic();
+    assertEquals(1.0, subscriber.get(), 1e-9, "First write is always published");
+
+    handle.set(2.0);
+    RobotTelemetry.periodic();
+    assertEquals(1.0, subscriber.get(), 1e-9, "Second write is held by the rate limit");
+    subscriber.close();
+  }
+
+  // ─── Struct snapshots ────────────────────────────────────────────
+
+  @Test
+  public void testStructHandle_publishesWholeSnapshot() {
+    TurretSnapshot snapshot = new TurretSnapshot();
+    RobotTelemetry.StructHandle<TurretSnapshot> handle =
+        RobotTelemetry.structHandle("Test/Snapshot", TurretSnapshot.struct);
+    StructSubscriber<TurretSnapshot> subscriber =
+        NetworkTableInstance.getDefault()
+            .getTable("SmartDashboard")
+            .getStructTopic("Test/Snapshot", TurretSnapshot.struct)
+            .subscribe(new TurretSnapshot());
+
+    snapshot.angleDegrees = 45.0;
+    snapshot.unwinding = true;
+    handle.set(snapshot);
+    RobotTelemetry.periodic();
+
+    TurretSnapshot received = subscriber.get();
+    assertEquals(45.0, received.angleDegrees, 1e-9, "Snapshot fields round-trip");
+    assertTrue(received.unwinding, "Boolean fields round-trip");
+    subscriber.close();
+  }
+
+  @Test
+  public void testStructHandle_unchangedSnapshot_isNotResent() {
+    TurretSnapshot snapshot = new TurretSnapshot();
+    RobotTelemetry.StructHandle<TurretSnapshot> handle =
+        RobotTelemetry.structHandle("Test/RepeatedSnapshot", TurretSnapshot.struct);
+
+    snapshot.angleDegrees = 10.0;
+    handle.set(snapshot);
+    RobotTelemetry.periodic();
+    handle.set(snapshot);
+    RobotTelemetry.periodic();
+    assertEquals(1, handle.m_publishCount, "Refilling the same values sends nothing new");
+
+    snapshot.angleDegrees = 20.0;
+    handle.set(snapshot);
+    RobotTelemetry.periodic();
+    assertEquals(2, handle.m_publishCount, "Any changed field sends the snapshot");
+  }
+}
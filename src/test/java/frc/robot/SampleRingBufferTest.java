@@ -0,0 +1,62 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import frc.robot.utils.SampleRingBuffer;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the single-producer / single-consumer telemetry sample ring. */
+public class SampleRingBufferTest {
+
+  // ─── Capacity ────────────────────────────────────────────────────
+
+  @Test
+  public void testCapacity_roundsUpToPowerOfTwo() {
+    assertEquals(1024, new SampleRingBuffer(1000).capacity(), "1000 rounds up to 1024");
+    assertEquals(8, new SampleRingBuffer(8).capacity(), "Powers of two are kept");
+    assertEquals(2, new SampleRingBuffer(1).capacity(), "Minimum capacity is 2");
+  }
+
+  // ─── offer / drainTo ─────────────────────────────────────────────
+
+  @Test
+  public void testDrain_returnsSamplesInOrder() {
+    SampleRingBuffer ring = new SampleRingBuffer(8);
+    ring.offer(1, 100L, 10L, null);
+    ring.offer(2, 200L, 20L, "ref");
+    assertEquals(2, ring.size(), "Two samples queued");
+
+    long[] seen = new long[4];
+    Object[] refs = new Object[1];
+    int drained =
+        ring.drainTo(
+            (id, timestamp, value, ref) -> {
+              if (id == 1) {
+                seen[0] = timestamp;
+                seen[1] = value;
+              } else {
+                seen[2] = timestamp;
+                seen[3] = value;
+                refs[0] = ref;
+              }
+            });
+
+    assertEquals(2, drained, "Both samples drained");
+    assertArrayEquals(new long[] {100L, 10L, 200L, 20L}, seen, "Values survive the ring");
+    assertEquals("ref", refs[0], "Object refs survive the ring");
+    assertEquals(0, ring.size(), "Ring is empty after drain");
+  }
+
+  @Test
+  public void testOffer_whenFull_dropsAndCounts() {
+    SampleRingBuffer ring = new SampleRingBuffer(4);
+    for (int i = 0; i < 4; i++) {
+      assertTrue(ring.offer(i, 0L, 0L, null), "Sample " + i + " fits");
+    }
+    assertFalse(ring.offer(4, 0L, 0L, null), "Fifth sample is dropped");
+    assertEquals(1, ring.getDroppedCount(), "Drop is counted");
+
+    ring.drainTo((id, timestamp, value, ref) -> {});
+    assertTrue(ring.offer(5, 0L, 0L, null), "Space is reclaimed after a drain");
+  }
+}
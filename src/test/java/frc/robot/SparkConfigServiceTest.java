@@ -0,0 +1,111 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.revrobotics.PersistMode;
+import com.revrobotics.REVLibError;
+import com.revrobotics.ResetMode;
+import com.revrobotics.spark.SparkMax;
+import com.revrobotics.spark.config.SparkBaseConfig;
+import com.revrobotics.spark.config.SparkBaseConfig.IdleMode;
+import com.revrobotics.spark.config.SparkMaxConfig;
+import edu.wpi.first.hal.HAL;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the background batching in SparkConfigService. */
+public class SparkConfigServiceTest {
+  // CAN IDs not used by the robot
+  private static final int DEVICE_ID = 40;
+  private static final int GATED_DEVICE_ID = 41;
+
+  private static SparkMax m_device;
+  private static GatedSparkMax m_gatedDevice;
+  private static final SparkMaxConfig m_brakeConfig = new SparkMaxConfig();
+
+  // Holds the config thread inside configure() until released, so later batches queue behind it
+  private static class GatedSparkMax extends SparkMax {
+    private final CountDownLatch m_entered = new CountDownLatch(1);
+    private final CountDownLatch m_release = new CountDownLatch(1);
+
+    GatedSparkMax(int deviceId) {
+      super(deviceId, MotorType.kBrushless);
+    }
+
+    @Override
+    public REVLibError configure(
+        SparkBaseConfig config, ResetMode resetMode, PersistMode persistMode) {
+      m_entered.countDown();
+      try {
+        m_release.await(2, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return super.configure(config, resetMode, persistMode);
+    }
+  }
+
+  @BeforeAll
+  static void initAll() {
+    assert HAL.initialize(500, 0);
+    m_device = new SparkMax(DEVICE_ID, SparkMax.MotorType.kBrushless);
+    m_gatedDevice = new GatedSparkMax(GATED_DEVICE_ID);
+    m_brakeConfig.idleMode(IdleMode.kBrake);
+  }
+
+  private static void awaitDone(SparkConfigService.Batch batch) throws InterruptedException {
+    long deadline = System.nanoTime() + 2_000_000_000L;
+    while (!batch.isDone() && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+
+  // ─── Completion ──────────────────────────────────────────────────
+
+  @Test
+  public void testSubmit_configuresDeviceInBackground() throws InterruptedException {
+    SparkConfigService.Batch batch =
+        SparkConfigService.submit(
+            SparkConfigService.batch("Test/Single").add(m_device, m_brakeConfig));
+    awaitDone(batch);
+    assertEquals(
+        SparkConfigService.Status.DONE, batch.getStatus(), "The simulated SparkMax accepts it");
+    SparkConfigService.periodic();
+  }
+
+  // ─── Coalescing ──────────────────────────────────────────────────
+
+  @Test
+  public void testBurst_queuedBatchesSuperseded() throws InterruptedException {
+    SparkConfigService.Batch running =
+        SparkConfigService.submit(
+            SparkConfigService.batch("Test/Burst").add(m_gatedDevice, m_brakeConfig));
+    assertTrue(
+        m_gatedDevice.m_entered.await(2, TimeUnit.SECONDS), "The config thread picks it up");
+
+    SparkConfigService.Batch[] queued = new SparkConfigService.Batch[5];
+    for (int i = 0; i < queued.length; i++) {
+      queued[i] =
+          SparkConfigService.submit(
+              SparkConfigService.batch("Test/Burst").add(m_device, m_brakeConfig));
+    }
+    m_gatedDevice.m_release.countDown();
+
+    awaitDone(running);
+    assertEquals(
+        SparkConfigService.Status.DONE, running.getStatus(), "A batch already sending finishes");
+    for (int i = 0; i < queued.length - 1; i++) {
+      awaitDone(queued[i]);
+      assertEquals(
+          SparkConfigService.Status.SUPERSEDED,
+          queued[i].getStatus(),
+          "A queued batch with a newer one behind it is skipped");
+    }
+    SparkConfigService.Batch last = queued[queued.length - 1];
+    awaitDone(last);
+    assertEquals(SparkConfigService.Status.DONE, last.getStatus(), "The newest batch is sent");
+    SparkConfigService.periodic();
+  }
+}
@@ -0,0 +1,141 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import frc.robot.constants.Constants;
+import frc.robot.subsystems.DriveIO;
+import frc.robot.subsystems.TractionControl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for wheel slip detection in TractionControl. */
+public class TractionControlTest {
+  private static final double DT = 0.02;
+
+  private TractionControl m_traction;
+  private DriveIO.DriveIOInputs m_inputs;
+
+  @BeforeEach
+  void setup() {
+    m_traction = new TractionControl();
+    m_inputs = new DriveIO.DriveIOInputs();
+    m_inputs.gyroConnected = true;
+  }
+
+  // Drives each side for one loop with front and back wheels gripping and a matching gyro rate.
+  // The first call only sets the starting point.
+  private void step(double left, double right) {
+    m_inputs.leftVelocityMetersPerSec = left;
+    m_inputs.leftFollowerVelocityMetersPerSec = left;
+    m_inputs.rightVelocityMetersPerSec = right;
+    m_inputs.rightFollowerVelocityMetersPerSec = right;
+    m_inputs.leftPositionMeters += left * DT;
+    m_inputs.leftFollowerPositionMeters += left * DT;
+    m_inputs.rightPositionMeters += right * DT;
+    m_inputs.rightFollowerPositionMeters += right * DT;
+    // navX rates are clockwise positive
+    m_inputs.gyroRateDegreesPerSec =
+        -Math.toDegrees((right - left) / DriveConstants.kTrackwidthMeters);
+    m_traction.update(m_inputs, DT);
+  }
+
+  // ─── Detection ───────────────────────────────────────────────────
+
+  @Test
+  public void testGripping_noSlip() {
+    for (int i = 0; i < 10; i++) {
+      step(0.1 * i, 0.05 * i);
+    }
+    assertFalse(m_traction.isSlipping(), "Consistent encoders and gyro mean grip");
+    assertEquals(1.0, m_traction.getLeftOutputScale(), 1e-9);
+    assertEquals(1.0, m_traction.getRightOutputScale(), 1e-9);
+    assertEquals(0.0, m_traction.getLeftDistanceCorrection(), 1e-9);
+  }
+
+  @Test
+  public void testEncoderMismatch_slipsThatSide() {
+    step(1.0, 1.0);
+    step(1.0, 1.0);
+    m_inputs.leftFollowerVelocityMetersPerSec = 0.5;
+    m_traction.update(m_inputs, DT);
+    assertTrue(m_traction.isLeftSlipping(), "Front and back encoders disagree");
+    assertFalse(m_traction.isRightSlipping());
+    assertEquals(Constants.TRACTION_SLIP_OUTPUT_SCALE, m_traction.getLeftOutputScale(), 1e-9);
+    assertEquals(1.0, m_traction.getRightOutputScale(), 1e-9);
+  }
+
+  @Test
+  public void testYawMismatch_blamesOverspinningSide() {
+    step(1.0, 1.0);
+    // Right wheels spin up while the gyro says we are still driving straight
+    for (double right = 1.2; right < 1.5; right += 0.2) {
+      m_inputs.rightVelocityMetersPerSec = right;
+      m_inputs.rightFollowerVelocityMetersPerSec = right;
+      m_traction.update(m_inputs, DT);
+    }
+    assertTrue(m_traction.isRightSlipping(), "Wheels turn the robot but the gyro does not");
+    assertFalse(m_traction.isLeftSlipping());
+  }
+
+  @Test
+  public void testWheelAcceleration_beyondTraction_isSlip() {
+    step(0.0, 0.0);
+    double tooFast = Constants.TRACTION_MAX_WHEEL_ACCELERATION * DT * 1.5;
+    step(tooFast, tooFast);
+    assertTrue(m_traction.isLeftSlipping());
+    assertTrue(m_traction.isRightSlipping());
+  }
+
+  // ─── Recovery ────────────────────────────────────────────────────
+
+  @Test
+  public void testSlip_heldThenOutputRampsBack() {
+    step(1.0, 1.0);
+    m_inputs.leftFollowerVelocityMetersPerSec = 0.5;
+    m_traction.update(m_inputs, DT);
+    step(1.0, 1.0);
+    assertTrue(m_traction.isLeftSlipping(), "Held after the last detection");
+
+    int holdLoops = (int) Math.ceil(Constants.TRACTION_SLIP_HOLD_TIME / DT);
+    for (int i = 0; i < holdLoops; i++) {
+      step(1.0, 1.0);
+    }
+    assertFalse(m_traction.isLeftSlipping(), "Released once the hold time passes");
+    assertTrue(m_traction.getLeftOutputScale() < 1.0, "Output ramps back rather than jumping");
+
+    for (int i = 0; i < 50; i++) {
+      step(1.0, 1.0);
+    }
+    assertEquals(1.0, m_traction.getLeftOutputScale(), 1e-9);
+  }
+
+  // ─── Odometry ────────────────────────────────────────────────────
+
+  @Test
+  public void testSlip_correctsOdometryByExcessTravel() {
+    step(0.5, 0.5);
+    // Back left wheel spins at 1.5 m/s while the front left and the gyro say 0.5 m/s
+    m_inputs.leftVelocityMetersPerSec = 1.5;
+    m_inputs.leftFollowerVelocityMetersPerSec = 0.5;
+    m_inputs.leftPositionMeters += 1.5 * DT;
+    m_inputs.leftFollowerPositionMeters += 0.5 * DT;
+    m_inputs.rightPositionMeters += 0.5 * DT;
+    m_inputs.rightFollowerPositionMeters += 0.5 * DT;
+    m_traction.update(m_inputs, DT);
+    assertEquals(1.0 * DT, m_traction.getLeftDistanceCorrection(), 1e-9);
+    assertEquals(0.0, m_traction.getRightDistanceCorrection(), 1e-9);
+  }
+
+  // ─── Pushing ─────────────────────────────────────────────────────
+
+  @Test
+  public void testHighCurrentWhileStopped_isPushing() {
+    double amps = Constants.TRACTION_PUSHING_CURRENT + 10.0;
+    m_inputs.leftCurrentAmps = new double[] {amps, amps};
+    m_inputs.rightCurrentAmps = new double[] {amps, amps};
+    step(0.0, 0.0);
+    step(0.0, 0.0);
+    assertTrue(m_traction.isPushing());
+    assertFalse(m_traction.isSlipping(), "Held in place is not slip");
+  }
+}
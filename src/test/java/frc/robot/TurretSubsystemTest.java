@@ -3,6 +3,7 @@ package frc.robot;
 import static org.junit.jupiter.api.Assertions.*;
 
 import edu.wpi.first.hal.HAL;
+import frc.robot.constants.Constants;
 import frc.robot.subsystems.TurretSubsystem;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -160,4 +161,83 @@ public class TurretSubsystemTest {
           "simulationPeriodic() must not throw after repeated updates");
     }
   }
+
+  // ─── Fast control ────────────────────────────────────────────────
+
+  // Fake turret for the fast path: a settable position and the last command it received
+  private static double m_fastPosition = 0.0;
+  private static String m_fastLastCommand = "";
+
+  private static TurretSubsystem createFastTurret() {
+    m_fastPosition = 0.0;
+    m_fastLastCommand = "";
+    TurretSubsystem turret =
+        new TurretSubsystem(
+            new frc.robot.subsystems.TurretIO() {
+              @Override
+              public void updateInputs(TurretIOInputs inputs) {
+                inputs.positionRotations = m_fastPosition;
+              }
+
+              @Override
+              public void setPosition(double target) {
+                m_fastLastCommand = "position " + target;
+              }
+
+              @Override
+              public void setVoltage(double volts) {
+                m_fastLastCommand = "voltage " + volts;
+              }
+            });
+    turret.enableFastControl();
+    return turret;
+  }
+
+  private static double degreesToRotations(double degrees) {
+    return degrees / 360.0 * Constants.TURRET_GEAR_RATIO;
+  }
+
+  @Test
+  public void testFastPeriodic_appliesNewDemand() {
+    TurretSubsystem turret = createFastTurret();
+    turret.setTurretVoltage(3.0);
+    assertEquals("", m_fastLastCommand, "Demands wait for the fast loop");
+    turret.fastPeriodic();
+    assertEquals("voltage 3.0", m_fastLastCommand);
+  }
+
+  @Test
+  public void testFastPeriodic_demandDuringUnwind_appliedWhenUnwindEnds() {
+    TurretSubsystem turret = createFastTurret();
+    m_fastPosition = degreesToRotations(370.0);
+    turret.fastPeriodic();
+    turret.periodic();
+    assertTrue(turret.isUnwinding());
+
+    // A one-shot demand written mid-unwind must not be lost
+    turret.setTargetAngle(90.0);
+    turret.fastPeriodic();
+    assertEquals("position 0.0", m_fastLastCommand, "Still unwinding, so still homing");
+
+    m_fastPosition = 0.0;
+    turret.fastPeriodic();
+    turret.periodic();
+    assertFalse(turret.isUnwinding());
+    assertEquals("position " + degreesToRotations(90.0), m_fastLastCommand);
+  }
+
+  @Test
+  public void testFastPeriodic_reappliesInterruptedDemandAfterUnwind() {
+    TurretSubsystem turret = createFastTurret();
+    turret.setTurretVoltage(2.0);
+    turret.fastPeriodic();
+
+    m_fastPosition = degreesToRotations(370.0);
+    turret.fastPeriodic();
+    assertEquals("position 0.0", m_fastLastCommand);
+
+    m_fastPosition = 0.0;
+    turret.fastPeriodic();
+    assertEquals("voltage 2.0", m_fastLastCommand, "The demand the unwind interrupted resumes");
+  }
 }